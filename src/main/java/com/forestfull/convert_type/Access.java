@@ -0,0 +1,57 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+
+/**
+ * 필드/생성자 접근과 인스턴스 생성 방식을 JDK 버전별로 분리한 계층입니다.
+ * <p>
+ * 이 파일은 Java 8 기준 구현이며, Multi-Release JAR의 {@code META-INF/versions/17}에는
+ * {@code trySetAccessible}과 Record 정규 생성자(Canonical Constructor)를 사용하는 구현이 함께 포함됩니다.
+ *
+ * <hr>
+ * <p>
+ * The layer isolating field/constructor access and instantiation per JDK version.
+ * <p>
+ * This file is the Java 8 baseline. The multi-release JAR also ships an implementation under {@code META-INF/versions/17}
+ * that uses {@code trySetAccessible} and record canonical constructors.
+ *
+ * @author vigfoot
+ */
+final class Access {
+
+    private Access() {
+    }
+
+    /**
+     * 리플렉션 접근을 허용합니다. 모듈 시스템 등으로 접근할 수 없으면 {@code false}를 반환합니다.
+     * <p>
+     * Enables reflective access, returning {@code false} when access is denied (e.g. by the module system).
+     */
+    static boolean makeAccessible(AccessibleObject object) {
+        try {
+            object.setAccessible(true);
+            return true;
+        } catch (Throwable ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Record 타입이면 컴포넌트 이름을 선언 순서대로 반환하고, 아니면 {@code null}을 반환합니다. Java 8에는 Record가 없습니다.
+     * <p>
+     * Returns the component names in declaration order if the class is a record, otherwise {@code null}. Java 8 has no records.
+     */
+    static String[] recordComponents(Class<?> clazz) {
+        return null;
+    }
+
+    /**
+     * Record의 정규 생성자(Canonical Constructor)를 반환합니다. Java 8에는 Record가 없습니다.
+     * <p>
+     * Returns the canonical constructor of a record. Java 8 has no records.
+     */
+    static Constructor<?> canonicalConstructor(Class<?> clazz) {
+        return null;
+    }
+}
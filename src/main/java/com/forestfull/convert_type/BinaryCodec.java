@@ -0,0 +1,724 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.Constructor;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * 클래스별로 캐시된 필드 정보({@link FieldPlan})를 이용한 스키마 기반 바이너리 인코딩입니다.
+ * <p>
+ * 필드명을 기록하지 않고 필드 선언 순서대로 값만 기록하므로 JSON보다 훨씬 작고 빠르게 해석됩니다.
+ * <ul>
+ *     <li>헤더: 포맷 버전(1바이트) + 스키마 해시(4바이트). 필드 이름/타입 구성이 다른 클래스로는 읽을 수 없습니다.</li>
+ *     <li>객체: 필드별 null 비트맵 + null이 아닌 필드 값 (정수는 ZigZag 가변 길이, 문자열은 UTF-8)</li>
+ *     <li>컬렉션/배열/Map: 크기 + 요소별 null 비트맵 + 요소 값</li>
+ *     <li>직접 표현할 수 없는 타입(인터페이스, {@code Object} 등): 길이 + Jackson JSON</li>
+ * </ul>
+ * 객체는 선언 타입의 레이아웃으로 기록하므로 선언 타입과 다른 하위 클래스 값, 그리고 Comparator를 가진
+ * {@link SortedSet}/{@link SortedMap}은 정보를 잃지 않도록 인코딩을 거부합니다.
+ *
+ * <hr>
+ * <p>
+ * A schema-based binary encoding driven by the cached per-class field metadata ({@link FieldPlan}).
+ * <p>
+ * Field names are never written; values follow the declaration order of the fields, which makes the encoding much smaller and faster to decode than JSON.
+ * <ul>
+ *     <li>Header: format version (1 byte) + schema hash (4 bytes). Data cannot be read into a class whose field names and types differ.</li>
+ *     <li>Object: a null bitmap of the fields + the values of the non-null fields (integers as ZigZag varints, strings as UTF-8).</li>
+ *     <li>Collection, array and map: size + a null bitmap of the elements + the element values.</li>
+ *     <li>Types without a native representation (interfaces, {@code Object}, ...): length + Jackson JSON.</li>
+ * </ul>
+ * Objects are written with the layout of their declared type, so a subclass value of a declared class
+ * and a {@link SortedSet}/{@link SortedMap} with a comparator are rejected rather than silently losing data.
+ *
+ * @author vigfoot
+ */
+final class BinaryCodec {
+    private static final byte FORMAT_VERSION = 1;
+    private static final int MIN_CAPACITY = 64;
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * 값 하나를 읽고 쓰는 인코더입니다. 필드/요소 타입별로 한 번만 생성됩니다.
+     * <p>
+     * Reads and writes a single value. Created once per field or element type.
+     */
+    private interface Slot {
+        void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth);
+
+        Object read(ByteBuffer in, int depth);
+    }
+
+    /**
+     * 바이너리로 인코딩할 수 있는 클래스의 필드 배치입니다.
+     * <p>
+     * The field layout of a class that can be binary encoded.
+     */
+    static final class Layout {
+        final ConvertTypeEngine engine;
+        final Class<?> type;
+        final FieldPlan[] fields;
+        final Slot[] slots;
+        final int schemaHash;
+        final Constructor<?> constructor;
+        final RecordPlan record;
+        /**
+         * Record 컴포넌트별 {@link #fields} 인덱스, 무시된 컴포넌트는 -1 / The index in {@link #fields} of each record component, or -1 if ignored.
+         */
+        final int[] components;
+        volatile int sizeHint = MIN_CAPACITY;
+
+        Layout(ConvertTypeEngine engine, Class<?> type) {
+            if (!isBean(engine, type)) {
+                throw new IllegalArgumentException("[ConvertType] Binary encoding requires a class with a no-args constructor or a record: " + type.getName());
+            }
+
+            this.engine = engine;
+            this.type = type;
+            this.constructor = engine.getCachedConstructor(type);
+            this.record = constructor == null ? engine.getCachedRecordPlan(type) : null;
+
+            List<FieldPlan> plans = new ArrayList<>();
+            for (FieldPlan plan : engine.getCachedFieldPlans(type)) {
+                if (!plan.ignored) plans.add(plan);
+            }
+            this.fields = plans.toArray(new FieldPlan[0]);
+            this.slots = new Slot[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                slots[i] = slotFor(engine, fields[i].model);
+            }
+
+            if (record == null) {
+                this.components = null;
+            } else {
+                this.components = new int[record.components.length];
+                for (int i = 0; i < components.length; i++) {
+                    components[i] = plans.indexOf(record.components[i]);
+                }
+            }
+            this.schemaHash = schemaHash(engine, type, new HashSet<>());
+        }
+    }
+
+    /**
+     * 값을 새 바이트 배열로 인코딩합니다. 버퍼 크기는 클래스별로 직전 결과 크기를 기준으로 잡습니다.
+     * <p>
+     * Encodes the value into a new byte array. The buffer is sized from the previous result of the same class.
+     */
+    static byte[] encode(ConvertTypeEngine engine, Object value, UnaryOperator<Object> unProxy) {
+        final Layout layout = layoutOf(engine, value.getClass());
+        int capacity = layout.sizeHint;
+        while (true) {
+            ByteBuffer buffer = ByteBuffer.allocate(capacity);
+            try {
+                write(buffer, value, layout, unProxy);
+            } catch (BufferOverflowException e) {
+                if (capacity >= Integer.MAX_VALUE / 2) throw e;
+                capacity *= 2;
+                continue;
+            }
+
+            int size = buffer.position();
+            if (size > layout.sizeHint) layout.sizeHint = size + (size >> 2);
+            return Arrays.copyOf(buffer.array(), size);
+        }
+    }
+
+    /**
+     * 값을 주어진 버퍼(Direct 버퍼 포함)의 현재 위치부터 인코딩합니다. 실패하면 버퍼의 위치는 변하지 않습니다.
+     * <p>
+     * Encodes the value at the current position of the given buffer (direct buffers included). On failure the position is left unchanged.
+     *
+     * @throws BufferOverflowException if the remaining space of the buffer is too small.
+     */
+    static void encode(ConvertTypeEngine engine, ByteBuffer out, Object value, UnaryOperator<Object> unProxy) {
+        final int start = out.position();
+        try {
+            write(out, value, layoutOf(engine, value.getClass()), unProxy);
+        } catch (RuntimeException e) {
+            out.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * 버퍼의 현재 위치부터 값을 읽습니다. 성공하면 위치는 값의 끝으로, 실패하면 원래 위치로 돌아갑니다.
+     * <p>
+     * Decodes a value at the current position of the buffer. On success the position moves past the value; on failure it is restored.
+     *
+     * @throws IllegalArgumentException if the data was written with a different format or schema, or is truncated.
+     */
+    static <T> T decode(ConvertTypeEngine engine, ByteBuffer in, Class<T> clazz) {
+        final Layout layout = layoutOf(engine, clazz);
+        final int start = in.position();
+        try {
+            byte version = in.get();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("[ConvertType] Unsupported binary format version: " + version);
+            }
+            int schemaHash = in.getInt();
+            if (schemaHash != layout.schemaHash) {
+                throw new IllegalArgumentException("[ConvertType] Binary schema mismatch for " + clazz.getName() + ". Expected: " + layout.schemaHash + ", Actual: " + schemaHash);
+            }
+            return clazz.cast(readObject(in, layout, engine.maxDepth));
+        } catch (BufferUnderflowException e) {
+            in.position(start);
+            throw new IllegalArgumentException("[ConvertType] Truncated binary data for " + clazz.getName(), e);
+        } catch (RuntimeException e) {
+            in.position(start);
+            throw e;
+        }
+    }
+
+    private static Layout layoutOf(ConvertTypeEngine engine, Class<?> type) {
+        return ConvertType.Cache.getOrBuild(engine.layouts, type, engine.layoutBuilder);
+    }
+
+    private static void write(ByteBuffer out, Object value, Layout layout, UnaryOperator<Object> unProxy) {
+        out.put(FORMAT_VERSION);
+        out.putInt(layout.schemaHash);
+        writeObject(out, value, layout, unProxy, layout.engine.maxDepth);
+    }
+
+    private static void writeObject(ByteBuffer out, Object value, Layout layout, UnaryOperator<Object> unProxy, int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("[ConvertType] Too many nested objects. Please check for circular references in your class: " + layout.type.getName());
+        }
+
+        final FieldPlan[] fields = layout.fields;
+        final int bitmap = reserveBitmap(out, fields.length);
+        int bits = 0;
+        for (int i = 0; i < fields.length; i++) {
+            Object fieldValue;
+            try {
+                fieldValue = unProxy.apply(fields[i].field.get(value));
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("[ConvertType] Failed to access field: " + fields[i].field.getName(), e);
+            }
+
+            if (fieldValue != null) {
+                bits |= 1 << (i & 7);
+                layout.slots[i].write(out, fieldValue, unProxy, depth - 1);
+            }
+            if ((i & 7) == 7 || i == fields.length - 1) {
+                out.put(bitmap + (i >> 3), (byte) bits);
+                bits = 0;
+            }
+        }
+    }
+
+    private static Object readObject(ByteBuffer in, Layout layout, int depth) {
+        if (depth <= 0) {
+            throw new IllegalArgumentException("[ConvertType] Too many nested objects. Please check for circular references in your class: " + layout.type.getName());
+        }
+
+        final FieldPlan[] fields = layout.fields;
+        final int bitmap = skipBitmap(in, fields.length);
+        try {
+            if (layout.constructor != null) {
+                Object target = layout.constructor.newInstance();
+                for (int i = 0; i < fields.length; i++) {
+                    if (isSet(in, bitmap, i)) fields[i].field.set(target, layout.slots[i].read(in, depth - 1));
+                }
+                return target;
+            }
+
+            Object[] values = new Object[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                if (isSet(in, bitmap, i)) values[i] = layout.slots[i].read(in, depth - 1);
+            }
+            Object[] arguments = new Object[layout.components.length];
+            for (int i = 0; i < arguments.length; i++) {
+                int index = layout.components[i];
+                Object value = index < 0 ? null : values[index];
+                arguments[i] = value == null ? layout.record.components[i].model.defaultValue : value;
+            }
+            return layout.record.constructor.newInstance(arguments);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("[ConvertType] Failed to create instance: " + layout.type.getName(), e);
+        }
+    }
+
+    // --- Slots ---
+
+    private static Slot slotFor(ConvertTypeEngine engine, TypeModel model) {
+        switch (model.kind) {
+            case COLLECTION:
+                return collectionSlot(model, slotFor(engine, model.element));
+            case ARRAY:
+                return model.element.rawType == byte.class ? BYTES : arraySlot(model, slotFor(engine, model.element));
+            case MAP:
+                return mapSlot(model, slotFor(engine, model.key), slotFor(engine, model.element));
+            case OPTIONAL:
+                return optionalSlot(slotFor(engine, model.element));
+            default:
+                return objectSlot(engine, model);
+        }
+    }
+
+    private static Slot scalar(BiConsumer<ByteBuffer, Object> writer, Function<ByteBuffer, Object> reader) {
+        return new Slot() {
+            @Override
+            public void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth) {
+                writer.accept(out, value);
+            }
+
+            @Override
+            public Object read(ByteBuffer in, int depth) {
+                return reader.apply(in);
+            }
+        };
+    }
+
+    private static final Slot BYTES = scalar((out, value) -> {
+        byte[] bytes = (byte[]) value;
+        writeVarInt(out, bytes.length);
+        out.put(bytes);
+    }, in -> {
+        byte[] bytes = new byte[readLength(in, 1)];
+        in.get(bytes);
+        return bytes;
+    });
+
+    private static Slot objectSlot(ConvertTypeEngine engine, TypeModel model) {
+        final Class<?> type = model.instanceType;
+
+        if (type == Boolean.class) return scalar((out, v) -> out.put((byte) ((Boolean) v ? 1 : 0)), in -> in.get() != 0);
+        if (type == Byte.class) return scalar((out, v) -> out.put((Byte) v), ByteBuffer::get);
+        if (type == Short.class) return scalar((out, v) -> writeVarInt(out, zigZag((Short) v)), in -> (short) unZigZag(readVarInt(in)));
+        if (type == Character.class) return scalar((out, v) -> writeVarInt(out, (Character) v), in -> (char) readVarInt(in));
+        if (type == Integer.class) return scalar((out, v) -> writeVarInt(out, zigZag((Integer) v)), in -> unZigZag(readVarInt(in)));
+        if (type == Long.class) return scalar((out, v) -> writeVarLong(out, zigZag((Long) v)), in -> unZigZag(readVarLong(in)));
+        if (type == Float.class) return scalar((out, v) -> out.putFloat((Float) v), ByteBuffer::getFloat);
+        if (type == Double.class) return scalar((out, v) -> out.putDouble((Double) v), ByteBuffer::getDouble);
+        if (type == String.class) return scalar((out, v) -> writeString(out, (String) v), BinaryCodec::readString);
+        if (type == BigInteger.class) {
+            return scalar((out, v) -> BYTES.write(out, ((BigInteger) v).toByteArray(), null, 0), in -> new BigInteger((byte[]) BYTES.read(in, 0)));
+        }
+        if (type == BigDecimal.class) {
+            return scalar((out, v) -> {
+                writeVarInt(out, zigZag(((BigDecimal) v).scale()));
+                BYTES.write(out, ((BigDecimal) v).unscaledValue().toByteArray(), null, 0);
+            }, in -> {
+                int scale = unZigZag(readVarInt(in));
+                return new BigDecimal(new BigInteger((byte[]) BYTES.read(in, 0)), scale);
+            });
+        }
+        if (type == UUID.class) {
+            return scalar((out, v) -> out.putLong(((UUID) v).getMostSignificantBits()).putLong(((UUID) v).getLeastSignificantBits()),
+                    in -> new UUID(in.getLong(), in.getLong()));
+        }
+        if (type == LocalDate.class) {
+            return scalar((out, v) -> writeVarLong(out, zigZag(((LocalDate) v).toEpochDay())), in -> LocalDate.ofEpochDay(unZigZag(readVarLong(in))));
+        }
+        if (type == LocalTime.class) {
+            return scalar((out, v) -> writeVarLong(out, ((LocalTime) v).toNanoOfDay()), in -> LocalTime.ofNanoOfDay(readVarLong(in)));
+        }
+        if (type == LocalDateTime.class) {
+            return scalar((out, v) -> {
+                writeVarLong(out, zigZag(((LocalDateTime) v).toLocalDate().toEpochDay()));
+                writeVarLong(out, ((LocalDateTime) v).toLocalTime().toNanoOfDay());
+            }, in -> LocalDateTime.of(LocalDate.ofEpochDay(unZigZag(readVarLong(in))), LocalTime.ofNanoOfDay(readVarLong(in))));
+        }
+        if (type == Instant.class) {
+            return scalar((out, v) -> {
+                writeVarLong(out, zigZag(((Instant) v).getEpochSecond()));
+                writeVarInt(out, ((Instant) v).getNano());
+            }, in -> Instant.ofEpochSecond(unZigZag(readVarLong(in)), readVarInt(in)));
+        }
+        if (type == Date.class) {
+            return scalar((out, v) -> {
+                // java.sql.Timestamp 등 하위 클래스는 나노초와 런타임 타입을 잃으므로 거부
+                if (v.getClass() != Date.class) {
+                    throw new IllegalArgumentException("[ConvertType] Binary encoding cannot write " + v.getClass().getName()
+                            + " as java.util.Date without losing its precision and type. Declare the exact class instead.");
+                }
+                writeVarLong(out, zigZag(((Date) v).getTime()));
+            }, in -> new Date(unZigZag(readVarLong(in))));
+        }
+        if (type.isEnum()) {
+            final Object[] constants = type.getEnumConstants();
+            return scalar((out, v) -> writeVarInt(out, ((Enum<?>) v).ordinal()), in -> {
+                int ordinal = readVarInt(in);
+                if (ordinal < 0 || ordinal >= constants.length) {
+                    throw new IllegalArgumentException("[ConvertType] Invalid ordinal " + ordinal + " for enum " + type.getName());
+                }
+                return constants[ordinal];
+            });
+        }
+        if (isBean(engine, type)) return beanSlot(engine, type);
+        return jsonSlot(model);
+    }
+
+    private static Slot beanSlot(ConvertTypeEngine engine, Class<?> type) {
+        return new Slot() {
+            // 자기 자신을 참조하는 클래스를 위해 레이아웃은 처음 사용할 때 해석
+            private Layout layout;
+
+            private Layout layout() {
+                Layout current = layout;
+                if (current == null) layout = current = layoutOf(engine, type);
+                return current;
+            }
+
+            @Override
+            public void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth) {
+                // 선언 타입의 레이아웃으로만 기록하므로 하위 클래스 값은 추가 필드를 잃지 않도록 거부
+                if (value.getClass() != type) {
+                    throw new IllegalArgumentException("[ConvertType] Binary encoding cannot write " + value.getClass().getName()
+                            + " as its declared type " + type.getName() + " without losing its fields. Declare the exact class instead.");
+                }
+                writeObject(out, value, layout(), unProxy, depth);
+            }
+
+            @Override
+            public Object read(ByteBuffer in, int depth) {
+                return readObject(in, layout(), depth);
+            }
+        };
+    }
+
+    private static Slot jsonSlot(TypeModel model) {
+        return scalar((out, v) -> BYTES.write(out, model.fallback().write(v), null, 0), in -> model.fallback().read((byte[]) BYTES.read(in, 0)));
+    }
+
+    private static Slot optionalSlot(Slot content) {
+        return new Slot() {
+            @Override
+            public void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth) {
+                Object present = unProxy.apply(value instanceof Optional ? ((Optional<?>) value).orElse(null) : value);
+                out.put((byte) (present == null ? 0 : 1));
+                if (present != null) content.write(out, present, unProxy, depth);
+            }
+
+            @Override
+            public Object read(ByteBuffer in, int depth) {
+                return in.get() == 0 ? Optional.empty() : Optional.of(content.read(in, depth));
+            }
+        };
+    }
+
+    private static Slot collectionSlot(TypeModel model, Slot element) {
+        return new Slot() {
+            @Override
+            public void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth) {
+                Collection<?> collection = (Collection<?>) value;
+                if (collection instanceof SortedSet && ((SortedSet<?>) collection).comparator() != null) {
+                    throw new IllegalArgumentException("[ConvertType] Binary encoding does not keep the comparator of a " + collection.getClass().getName()
+                            + ". It would be decoded in natural order.");
+                }
+                final int size = collection.size();
+                writeVarInt(out, size);
+
+                final int bitmap = reserveBitmap(out, size);
+                int index = 0, bits = 0;
+                for (Object item : collection) {
+                    if (index >= size) throw new ConcurrentModificationException();
+                    item = unProxy.apply(item);
+                    if (item != null) {
+                        bits |= 1 << (index & 7);
+                        element.write(out, item, unProxy, depth);
+                    }
+                    if ((index & 7) == 7 || index == size - 1) {
+                        out.put(bitmap + (index >> 3), (byte) bits);
+                        bits = 0;
+                    }
+                    index++;
+                }
+                if (index != size) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object read(ByteBuffer in, int depth) {
+                final int size = readLength(in, 8);
+                final int bitmap = skipBitmap(in, size);
+                Collection<Object> collection = (Collection<Object>) model.containerFactory.create(null, size);
+                for (int index = 0; index < size; index++) {
+                    collection.add(isSet(in, bitmap, index) ? element.read(in, depth) : null);
+                }
+                return collection;
+            }
+        };
+    }
+
+    private static Slot arraySlot(TypeModel model, Slot element) {
+        final Class<?> componentType = model.element.rawType;
+        final boolean primitive = componentType.isPrimitive();
+        return new Slot() {
+            @Override
+            public void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth) {
+                final int length = java.lang.reflect.Array.getLength(value);
+                writeVarInt(out, length);
+
+                if (primitive) {
+                    for (int index = 0; index < length; index++) {
+                        element.write(out, java.lang.reflect.Array.get(value, index), unProxy, depth);
+                    }
+                    return;
+                }
+
+                final int bitmap = reserveBitmap(out, length);
+                int bits = 0;
+                for (int index = 0; index < length; index++) {
+                    Object item = unProxy.apply(java.lang.reflect.Array.get(value, index));
+                    if (item != null) {
+                        bits |= 1 << (index & 7);
+                        element.write(out, item, unProxy, depth);
+                    }
+                    if ((index & 7) == 7 || index == length - 1) {
+                        out.put(bitmap + (index >> 3), (byte) bits);
+                        bits = 0;
+                    }
+                }
+            }
+
+            @Override
+            public Object read(ByteBuffer in, int depth) {
+                final int length = readLength(in, 8);
+                Object array = java.lang.reflect.Array.newInstance(componentType, length);
+                if (primitive) {
+                    for (int index = 0; index < length; index++) {
+                        java.lang.reflect.Array.set(array, index, element.read(in, depth));
+                    }
+                    return array;
+                }
+
+                final int bitmap = skipBitmap(in, length);
+                for (int index = 0; index < length; index++) {
+                    if (isSet(in, bitmap, index)) java.lang.reflect.Array.set(array, index, element.read(in, depth));
+                }
+                return array;
+            }
+        };
+    }
+
+    private static Slot mapSlot(TypeModel model, Slot key, Slot element) {
+        return new Slot() {
+            @Override
+            public void write(ByteBuffer out, Object value, UnaryOperator<Object> unProxy, int depth) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                if (map instanceof SortedMap && ((SortedMap<?, ?>) map).comparator() != null) {
+                    throw new IllegalArgumentException("[ConvertType] Binary encoding does not keep the comparator of a " + map.getClass().getName()
+                            + ". It would be decoded in natural order.");
+                }
+                final int size = map.size();
+                writeVarInt(out, size);
+
+                // 키와 값의 null 여부를 항목당 2비트로 기록
+                final int bits = size * 2;
+                final int bitmap = reserveBitmap(out, bits);
+                int index = 0, current = 0;
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    if (index >= bits) throw new ConcurrentModificationException();
+                    Object k = unProxy.apply(entry.getKey());
+                    if (k != null) {
+                        current |= 1 << (index & 7);
+                        key.write(out, k, unProxy, depth);
+                    }
+                    index++;
+
+                    Object v = unProxy.apply(entry.getValue());
+                    if (v != null) {
+                        current |= 1 << (index & 7);
+                        element.write(out, v, unProxy, depth);
+                    }
+                    // 항목당 2비트이므로 바이트 경계는 항상 값 비트에서 끝남
+                    if ((index & 7) == 7 || index == bits - 1) {
+                        out.put(bitmap + (index >> 3), (byte) current);
+                        current = 0;
+                    }
+                    index++;
+                }
+                if (index != bits) throw new ConcurrentModificationException();
+            }
+
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object read(ByteBuffer in, int depth) {
+                final int size = readLength(in, 8);
+                final int bitmap = skipBitmap(in, size * 2);
+                Map<Object, Object> map = (Map<Object, Object>) model.containerFactory.create(null, size);
+                for (int index = 0; index < size; index++) {
+                    Object k = isSet(in, bitmap, index * 2) ? key.read(in, depth) : null;
+                    Object v = isSet(in, bitmap, index * 2 + 1) ? element.read(in, depth) : null;
+                    map.put(k, v);
+                }
+                return map;
+            }
+        };
+    }
+
+    // --- Schema ---
+
+    /**
+     * 필드 이름과 타입 구성으로 스키마 해시를 계산합니다. 클래스 이름은 포함하지 않으므로 구성이 같은 Entity와 DTO는 같은 해시를 갖습니다.
+     * <p>
+     * Computes the schema hash from the field names and types. Class names are not included, so an entity and a DTO with the same layout share a hash.
+     */
+    private static int schemaHash(ConvertTypeEngine engine, Class<?> type, Set<Class<?>> path) {
+        // 자기 자신을 참조하는 경우 상수로 대체
+        if (!path.add(type)) return 1;
+
+        int hash = 1;
+        for (FieldPlan plan : engine.getCachedFieldPlans(type)) {
+            if (plan.ignored) continue;
+            hash = 31 * hash + plan.field.getName().hashCode();
+            hash = 31 * hash + typeHash(engine, plan.model, path);
+        }
+        path.remove(type);
+        return hash;
+    }
+
+    private static int typeHash(ConvertTypeEngine engine, TypeModel model, Set<Class<?>> path) {
+        int hash = model.kind.ordinal();
+        switch (model.kind) {
+            case MAP:
+                hash = 31 * hash + typeHash(engine, model.key, path);
+                return 31 * hash + typeHash(engine, model.element, path);
+            case COLLECTION:
+            case ARRAY:
+            case OPTIONAL:
+                return 31 * hash + typeHash(engine, model.element, path);
+            default:
+                Class<?> type = model.instanceType;
+                if (type.isEnum()) {
+                    for (Object constant : type.getEnumConstants()) {
+                        hash = 31 * hash + ((Enum<?>) constant).name().hashCode();
+                    }
+                    return hash;
+                }
+                if (isBean(engine, type)) return 31 * hash + schemaHash(engine, type, path);
+                return 31 * hash + type.getName().hashCode();
+        }
+    }
+
+    private static boolean isBean(ConvertTypeEngine engine, Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.isEnum() || type.isInterface() || java.lang.reflect.Modifier.isAbstract(type.getModifiers())) return false;
+
+        String name = type.getName();
+        if (name.startsWith("java.") || name.startsWith("javax.")) return false;
+        return engine.getCachedConstructor(type) != null || engine.getCachedRecordPlan(type) != null;
+    }
+
+    // --- Primitives ---
+
+    private static int reserveBitmap(ByteBuffer out, int bits) {
+        final int position = out.position();
+        for (int i = (bits + 7) >> 3; i > 0; i--) {
+            out.put((byte) 0);
+        }
+        return position;
+    }
+
+    private static int skipBitmap(ByteBuffer in, int bits) {
+        final int position = in.position();
+        final int bytes = (bits + 7) >> 3;
+        if (in.remaining() < bytes) throw new BufferUnderflowException();
+        in.position(position + bytes);
+        return position;
+    }
+
+    private static boolean isSet(ByteBuffer in, int bitmap, int index) {
+        return (in.get(bitmap + (index >> 3)) & (1 << (index & 7))) != 0;
+    }
+
+    /**
+     * 길이를 읽고, 남은 데이터로 표현할 수 없는 값이면 손상된 데이터로 간주합니다.
+     * <p>
+     * Reads a length, treating values the remaining data cannot hold as corrupt.
+     *
+     * @param itemsPerByte 1바이트에 담길 수 있는 최대 항목 수 / The maximum number of items a single byte can hold.
+     */
+    private static int readLength(ByteBuffer in, int itemsPerByte) {
+        int length = readVarInt(in);
+        if (length < 0 || length > (long) in.remaining() * itemsPerByte) {
+            throw new IllegalArgumentException("[ConvertType] Corrupt binary data: invalid length " + length);
+        }
+        return length;
+    }
+
+    private static void writeString(ByteBuffer out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.put(bytes);
+    }
+
+    private static String readString(ByteBuffer in) {
+        final int length = readLength(in, 1);
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(ByteBuffer out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    private static int readVarInt(ByteBuffer in) {
+        int result = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = in.get();
+            result |= (b & 0x7F) << shift;
+            if (b >= 0) return result;
+        }
+        throw new IllegalArgumentException("[ConvertType] Corrupt binary data: malformed varint");
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return result;
+        }
+        throw new IllegalArgumentException("[ConvertType] Corrupt binary data: malformed varint");
+    }
+}
@@ -0,0 +1,210 @@
+package com.forestfull.convert_type;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * 필드 타입에 맞는 {@link ContainerFactory}를 결정합니다.
+ * <p>
+ * 인터페이스 타입은 표준 구현체로, 구체 타입은 해당 타입 그대로 생성합니다.
+ * 정렬(Sorted) 컬렉션과 Enum 컬렉션은 소스의 Comparator 및 Enum 타입을 유지합니다.
+ * 단, Comparator는 소스 요소(키)가 타겟 요소(키) 타입과 같을 때만 재사용하고, 타입이 바뀌면 자연 순서를 사용합니다.
+ *
+ * <hr>
+ * <p>
+ * Resolves the {@link ContainerFactory} matching a field type.
+ * <p>
+ * Interface types are mapped to standard implementations, concrete types are instantiated as-is.
+ * Sorted and enum containers keep the comparator and enum type of the source.
+ * The comparator is only reused while the source elements (keys) already have the target element (key) type;
+ * once the type changes, natural ordering is used instead.
+ *
+ * @author vigfoot
+ */
+final class ContainerFactories {
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private ContainerFactories() {
+    }
+
+    /**
+     * 요소 수에 맞춰 재해싱이 일어나지 않는 해시 컨테이너의 초기 용량을 계산합니다.
+     * <p>
+     * Computes the initial capacity of a hash container that holds {@code size} elements without rehashing.
+     */
+    static int hashCapacity(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+
+    /**
+     * @param type        The declared collection (or array) type of the field.
+     * @param elementType The element type of the field, or {@code null} if unknown.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ContainerFactory forCollection(Class<?> type, Type elementType) {
+        final Class<?> elementClass = rawClass(elementType);
+
+        if (type.isArray() || type == ArrayList.class || (type.isInterface() && type.isAssignableFrom(ArrayList.class))) {
+            return (source, size) -> new ArrayList<>(size);
+        }
+        if (EnumSet.class.isAssignableFrom(type)) {
+            return (source, size) -> newEnumSet(elementClass, source, size);
+        }
+        if (type == TreeSet.class || (type.isInterface() && SortedSet.class.isAssignableFrom(type) && type.isAssignableFrom(TreeSet.class))) {
+            return (source, size) -> new TreeSet<>(comparatorOf(source, elementClass));
+        }
+        if (type == ConcurrentSkipListSet.class) {
+            return (source, size) -> new ConcurrentSkipListSet<>(comparatorOf(source, elementClass));
+        }
+        if (type.isInterface() && type.isAssignableFrom(TreeSet.class) && type.isAssignableFrom(EnumSet.class)) {
+            // Set 선언: EnumSet은 유지하고, 그 외에는 소스의 순회(정렬) 순서를 LinkedHashSet으로 유지
+            return (source, size) -> source instanceof EnumSet
+                    ? newEnumSet(elementClass, source, size)
+                    : new LinkedHashSet<>(hashCapacity(size));
+        }
+        if (type == LinkedHashSet.class || (type.isInterface() && type.isAssignableFrom(LinkedHashSet.class))) {
+            return (source, size) -> new LinkedHashSet<>(hashCapacity(size));
+        }
+        if (type == HashSet.class) {
+            return (source, size) -> new HashSet<>(hashCapacity(size));
+        }
+        if (type == ArrayDeque.class || (type.isInterface() && type.isAssignableFrom(ArrayDeque.class))) {
+            return (source, size) -> new ArrayDeque<>(Math.max(size, 1));
+        }
+        if (type == LinkedList.class || (type.isInterface() && type.isAssignableFrom(LinkedList.class))) {
+            return (source, size) -> new LinkedList<>();
+        }
+        if (type == Vector.class) {
+            return (source, size) -> new Vector<>(Math.max(size, 1));
+        }
+
+        final ContainerFactory byConstructor = byConstructor(type);
+        return byConstructor != null ? byConstructor : (source, size) -> new ArrayList<>(size);
+    }
+
+    /**
+     * @param type    The declared map type of the field.
+     * @param keyType The key type of the field, or {@code null} if unknown.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static ContainerFactory forMap(Class<?> type, Type keyType) {
+        final Class<?> keyClass = rawClass(keyType);
+
+        if (EnumMap.class.isAssignableFrom(type)) {
+            return (source, size) -> newEnumMap(keyClass, source, size);
+        }
+        if (type == TreeMap.class || (type.isInterface() && SortedMap.class.isAssignableFrom(type) && type.isAssignableFrom(TreeMap.class))) {
+            return (source, size) -> new TreeMap<>(comparatorOf(source, keyClass));
+        }
+        if (type == ConcurrentSkipListMap.class || (type.isInterface() && SortedMap.class.isAssignableFrom(type) && type.isAssignableFrom(ConcurrentSkipListMap.class))) {
+            return (source, size) -> new ConcurrentSkipListMap<>(comparatorOf(source, keyClass));
+        }
+        if (type == ConcurrentHashMap.class || (type.isInterface() && ConcurrentMap.class.isAssignableFrom(type) && type.isAssignableFrom(ConcurrentHashMap.class))) {
+            return (source, size) -> new ConcurrentHashMap<>(hashCapacity(size));
+        }
+        if (type == Map.class) {
+            // Map 선언: EnumMap은 유지하고, 순서가 있는 소스(Linked/Sorted 등)는 LinkedHashMap으로 순회 순서를 유지
+            return (source, size) -> {
+                if (source instanceof EnumMap) return newEnumMap(keyClass, source, size);
+                if (source != null && source.getClass() == HashMap.class) return new HashMap<>(hashCapacity(size));
+                return new LinkedHashMap<>(hashCapacity(size));
+            };
+        }
+        if (type == LinkedHashMap.class) {
+            return (source, size) -> new LinkedHashMap<>(hashCapacity(size));
+        }
+        if (type == HashMap.class || (type.isInterface() && type.isAssignableFrom(HashMap.class))) {
+            return (source, size) -> new HashMap<>(hashCapacity(size));
+        }
+        if (type == Hashtable.class) {
+            return (source, size) -> new Hashtable<>(hashCapacity(size));
+        }
+
+        final ContainerFactory byConstructor = byConstructor(type);
+        return byConstructor != null ? byConstructor : (source, size) -> new HashMap<>(hashCapacity(size));
+    }
+
+    /**
+     * 소스 정렬 컨테이너의 Comparator를 타겟 요소(키) 타입에 재사용할 수 있으면 반환하고, 아니면 자연 순서({@code null})를 반환합니다.
+     * <p>
+     * Returns the comparator of a sorted source when it can order the target element (key) type, or {@code null} for natural ordering.
+     * The comparator is reused when the source is empty, the target type is unknown, or the first source element (key) already is of the target type.
+     *
+     * @throws IllegalStateException If the comparator cannot be reused and the target type is not {@link Comparable}.
+     */
+    @SuppressWarnings("unchecked")
+    private static Comparator<Object> comparatorOf(Object source, Class<?> elementClass) {
+        final Comparator<Object> comparator;
+        final Object first;
+        if (source instanceof SortedSet) {
+            SortedSet<Object> set = (SortedSet<Object>) source;
+            comparator = (Comparator<Object>) set.comparator();
+            first = comparator == null || set.isEmpty() ? null : set.first();
+        } else if (source instanceof SortedMap) {
+            SortedMap<Object, Object> map = (SortedMap<Object, Object>) source;
+            comparator = (Comparator<Object>) map.comparator();
+            first = comparator == null || map.isEmpty() ? null : map.firstKey();
+        } else {
+            return null;
+        }
+
+        if (first == null || elementClass == null || elementClass.isInstance(first)) return comparator;
+        if (Comparable.class.isAssignableFrom(elementClass)) return null;
+
+        throw new IllegalStateException("[ConvertType] The comparator of the source " + source.getClass().getSimpleName() + " orders "
+                + first.getClass().getName() + " and cannot order " + elementClass.getName() + ", which is not Comparable");
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object newEnumSet(Class<?> elementClass, Object source, int size) {
+        if (elementClass != null && elementClass.isEnum()) return EnumSet.noneOf((Class<Enum>) elementClass);
+        if (!(source instanceof EnumSet)) return new LinkedHashSet<>(hashCapacity(size));
+
+        EnumSet copy = ((EnumSet) source).clone();
+        copy.clear();
+        return copy;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object newEnumMap(Class<?> keyClass, Object source, int size) {
+        if (keyClass != null && keyClass.isEnum()) return new EnumMap<>((Class<Enum>) keyClass);
+        if (!(source instanceof EnumMap)) return new HashMap<>(hashCapacity(size));
+
+        EnumMap copy = new EnumMap((EnumMap) source);
+        copy.clear();
+        return copy;
+    }
+
+    private static ContainerFactory byConstructor(Class<?> type) {
+        if (type.isInterface() || java.lang.reflect.Modifier.isAbstract(type.getModifiers())) return null;
+
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            if (!Access.makeAccessible(constructor)) return null;
+            final MethodHandle handle = LOOKUP.unreflectConstructor(constructor);
+            return (source, size) -> {
+                try {
+                    return handle.invoke();
+                } catch (Throwable t) {
+                    throw new IllegalStateException("[ConvertType] Failed to create container: " + type.getName(), t);
+                }
+            };
+        } catch (Throwable ignored) {
+            return null;
+        }
+    }
+
+    static Class<?> rawClass(Type type) {
+        if (type instanceof Class) return (Class<?>) type;
+        if (type instanceof ParameterizedType) return rawClass(((ParameterizedType) type).getRawType());
+        return null;
+    }
+}
@@ -0,0 +1,25 @@
+package com.forestfull.convert_type;
+
+/**
+ * 컬렉션/Map 필드에 채워 넣을 새 컨테이너를 생성하는 팩토리입니다.
+ * <p>
+ * 필드별로 한 번 결정되며({@link ContainerFactories}), 호출 시에는 리플렉션 없이 소스 크기에 맞춰 미리 용량을 잡은 컨테이너를 만듭니다.
+ *
+ * <hr>
+ * <p>
+ * A factory creating the new container that is filled into a collection or map field.
+ * <p>
+ * It is resolved once per field ({@link ContainerFactories}) and creates a container presized to the source without reflection.
+ *
+ * @author vigfoot
+ */
+@FunctionalInterface
+interface ContainerFactory {
+
+    /**
+     * @param source The source container being copied. Used to carry over ordering semantics such as a comparator.
+     * @param size   The number of elements that will be added.
+     * @return A new, empty and mutable container.
+     */
+    Object create(Object source, int size);
+}
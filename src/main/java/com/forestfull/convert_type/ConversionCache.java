@@ -0,0 +1,484 @@
+package com.forestfull.convert_type;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 변환 결과를 재사용하는 선택적(Opt-in) 캐시입니다.
+ * <p>
+ * 기준 데이터, 테넌트, 상품 카탈로그처럼 같은 엔티티가 같은 DTO로 반복 변환되는 경우, 소스와 타겟 클래스 단위로 결과를 캐시하여
+ * {@link ConvertType.ValueObject#to(Class, ConversionCache)} 호출 시 변환을 생략합니다.
+ * <ul>
+ *     <li>키: 기본은 소스 객체의 동일성(Identity)이며, {@link Builder#keyBy(Function)}로 식별자 등 사용자 키를 지정할 수 있습니다.</li>
+ *     <li>버전: {@link Builder#version(Function)}을 지정하면 소스의 버전이 바뀐 항목은 다시 변환합니다.</li>
+ *     <li>용량: 최대 크기를 넘으면 {@link Eviction#LRU} 또는 {@link Eviction#LFU} 정책으로 제거합니다.</li>
+ *     <li>약한 키: {@link Builder#weakKeys()}를 지정하면 소스 객체가 GC되는 즉시 항목도 제거됩니다.</li>
+ *     <li>동시성: 항목은 키 해시로 나뉜 세그먼트({@link Builder#concurrencyLevel(int)})마다 따로 잠기며, 제거 정책도 세그먼트 단위로 적용됩니다.</li>
+ * </ul>
+ * 캐시된 결과는 기본적으로 공유되지 않습니다. 불변 타입({@link ConvertImmutable} 등)은 그대로 반환하고, 그 외에는 호출마다 깊은 복사본을 반환합니다.
+ * 결과를 수정하지 않는 호출자는 {@link Builder#shareResults()}로 복사 없이 캐시된 결과를 그대로 받을 수 있습니다.
+ * 캐시 키에는 변환한 {@link ConvertTypeEngine}도 포함되므로, 설정이 다른 엔진의 결과를 섞어 반환하지 않습니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ * <pre>{@code
+ * private static final ConversionCache TENANTS = ConversionCache.builder()
+ *         .maximumSize(10_000)
+ *         .keyBy(source -> ((Tenant) source).getId())
+ *         .version(source -> ((Tenant) source).getVersion())
+ *         .build();
+ *
+ * TenantDto dto = ConvertType.from(tenant).to(TenantDto.class, TENANTS);
+ * double hitRate = TENANTS.hitRate();
+ * }</pre>
+ *
+ * <hr>
+ * <p>
+ * An opt-in cache that reuses conversion results.
+ * <p>
+ * When the same entities (reference data, tenants, product catalogs, ...) are repeatedly converted to the same DTOs, results are cached
+ * per source and target class, and {@link ConvertType.ValueObject#to(Class, ConversionCache)} skips the conversion.
+ * <ul>
+ *     <li>Key: the identity of the source object by default, or a user key such as an identifier via {@link Builder#keyBy(Function)}.</li>
+ *     <li>Version: with {@link Builder#version(Function)}, entries whose source version changed are converted again.</li>
+ *     <li>Size: beyond the maximum size, entries are evicted by {@link Eviction#LRU} or {@link Eviction#LFU}.</li>
+ *     <li>Weak keys: with {@link Builder#weakKeys()}, an entry is removed as soon as its source object is garbage collected.</li>
+ *     <li>Concurrency: entries are split by key hash into segments ({@link Builder#concurrencyLevel(int)}) that lock independently;
+ *     the eviction policy applies per segment.</li>
+ * </ul>
+ * By default cached results are never shared: immutable types ({@link ConvertImmutable}, ...) are returned as-is, anything else as a deep copy on every call.
+ * Callers that never mutate results can opt into {@link Builder#shareResults()} to receive the cached result without copying.
+ * The cache key includes the {@link ConvertTypeEngine} that converted the value, so results of differently configured engines are never mixed.
+ *
+ * @author vigfoot
+ */
+public final class ConversionCache {
+    /**
+     * 최대 크기를 넘었을 때 제거할 항목을 고르는 정책입니다.
+     * <p>
+     * The policy choosing the entry to evict when the maximum size is exceeded.
+     */
+    public enum Eviction {
+        /**
+         * 가장 오래 사용되지 않은 항목 / The least recently used entry.
+         */
+        LRU,
+        /**
+         * 가장 적게 사용된 항목 (같으면 오래된 항목) / The least frequently used entry, the oldest one on ties.
+         */
+        LFU
+    }
+
+    private final int maximumSize;
+    private final Eviction eviction;
+    private final boolean shareResults;
+    private final Function<Object, ?> keyFunction;
+    private final Function<Object, ?> versionFunction;
+    private final ReferenceQueue<Object> queue;
+    private final Segment[] segments;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private ConversionCache(Builder builder) {
+        this.maximumSize = builder.maximumSize;
+        this.eviction = builder.eviction;
+        this.shareResults = builder.shareResults;
+        this.keyFunction = builder.keyFunction;
+        this.versionFunction = builder.versionFunction;
+        this.queue = builder.weakKeys ? new ReferenceQueue<>() : null;
+
+        // 세그먼트당 최소 16개 항목을 보장하여 작은 캐시는 정확한 LRU/LFU를 유지
+        int count = 1;
+        while (count * 2 <= builder.concurrencyLevel && count * 2 * 16 <= maximumSize) count <<= 1;
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            segments[i] = new Segment(maximumSize / count + (i < maximumSize % count ? 1 : 0));
+        }
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return 캐시된 결과를 복사 없이 반환하는지 여부 / Whether cached results are returned without copying.
+     */
+    boolean sharesResults() {
+        return shareResults;
+    }
+
+    /**
+     * 캐시된 결과를 반환하거나, 없으면(또는 버전이 바뀌었으면) 변환하여 저장합니다. 변환은 잠금 밖에서 수행됩니다.
+     * 소스 자신을 반환한 변환은 저장하지 않습니다.
+     * <p>
+     * Returns the cached result, or converts and stores it when absent (or when the version changed). Conversion runs outside the lock.
+     * A conversion that returns the source itself is not stored.
+     *
+     * @param engine The engine converting the value. Part of the cache key.
+     * @return The cached (master) result, which must not be handed out without copying unless {@link #sharesResults()},
+     * or {@code null} if the conversion failed.
+     */
+    Object get(ConvertTypeEngine engine, Object source, Class<?> clazz, boolean full, Supplier<?> converter) {
+        purge();
+        final Object version = versionFunction == null ? null : versionFunction.apply(source);
+        final Object sourceKey = key(source);
+        final Key lookup = new Key(engine, sourceKey, clazz, full, keyFunction == null, null);
+        final Segment segment = segmentFor(lookup.hash);
+
+        synchronized (segment) {
+            Entry entry = segment.entries.get(lookup);
+            if (entry != null && Objects.equals(entry.version, version)) {
+                segment.touch(lookup, entry);
+                hits.increment();
+                return entry.value;
+            }
+        }
+
+        misses.increment();
+        Object value = converter.get();
+        // 소스를 그대로 반환한 변환(불변 타입 → 자기 클래스)은 저장할 이득이 없고, 약한 키에서는 값이 키를 강하게 붙잡아 GC되지 않음
+        if (value == null || value == source) return value;
+
+        Key key = queue == null ? lookup : new Key(engine, sourceKey, clazz, full, keyFunction == null, queue);
+        synchronized (segment) {
+            segment.remove(key);
+            segment.put(key, new Entry(value, version));
+        }
+        return value;
+    }
+
+    /**
+     * 지정한 소스의 모든 타겟 클래스에 대한 캐시 항목을 제거합니다.
+     * <p>
+     * Removes the cached entries of the given source for every target class.
+     */
+    public void invalidate(Object source) {
+        purge();
+        final Object key = key(source);
+        final boolean identity = keyFunction == null;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                for (Key candidate : new ArrayList<>(segment.entries.keySet())) {
+                    if (identity ? candidate.referent() == key : Objects.equals(candidate.referent(), key)) segment.remove(candidate);
+                }
+            }
+        }
+    }
+
+    /**
+     * 모든 캐시 항목을 제거합니다. 통계는 유지됩니다.
+     * <p>
+     * Removes every cached entry. Statistics are kept.
+     */
+    public void clear() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.entries.clear();
+                if (segment.frequencies != null) segment.frequencies.clear();
+            }
+        }
+        if (queue != null) while (queue.poll() != null) ;
+    }
+
+    public int size() {
+        purge();
+        int size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.entries.size();
+            }
+        }
+        return size;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * @return 전체 조회 중 캐시 적중 비율, 조회가 없으면 0 / The ratio of lookups served from the cache, or 0 without lookups.
+     */
+    public double hitRate() {
+        long hit = hits.sum();
+        long total = hit + misses.sum();
+        return total == 0 ? 0.0 : (double) hit / total;
+    }
+
+    @Override
+    public String toString() {
+        return "ConversionCache[eviction=" + eviction + ", maximumSize=" + maximumSize + ", segments=" + segments.length + ", hits=" + hitCount()
+                + ", misses=" + missCount() + ", evictions=" + evictionCount() + ", hitRate=" + String.format("%.3f", hitRate()) + "]";
+    }
+
+    private Object key(Object source) {
+        return keyFunction == null ? source : keyFunction.apply(source);
+    }
+
+    private Segment segmentFor(int hash) {
+        return segments[(hash ^ (hash >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * GC된 소스 객체의 항목을 제거합니다. / Removes the entries of garbage-collected source objects.
+     */
+    private void purge() {
+        if (queue == null) return;
+        for (Object reference; (reference = queue.poll()) != null; ) {
+            Key key = ((WeakKey) reference).owner;
+            Segment segment = segmentFor(key.hash);
+            synchronized (segment) {
+                segment.remove(key);
+            }
+        }
+    }
+
+    /**
+     * 자체 잠금과 제거 정책을 갖는 캐시의 한 구역입니다. 모든 메서드는 세그먼트를 잠근 상태에서 호출합니다.
+     * <p>
+     * A part of the cache with its own lock and eviction policy. Every method is called while holding the segment's lock.
+     */
+    private final class Segment {
+        private final int capacity;
+        private final Map<Key, Entry> entries;
+        /**
+         * LFU 전용: 사용 횟수 → 해당 횟수의 키(오래된 순) / LFU only: use count → keys with that count, oldest first.
+         */
+        private final Map<Integer, LinkedHashSet<Key>> frequencies;
+        private int minFrequency;
+
+        Segment(int capacity) {
+            this.capacity = capacity;
+            this.entries = eviction == Eviction.LRU ? new LinkedHashMap<>(16, 0.75f, true) : new HashMap<>();
+            this.frequencies = eviction == Eviction.LFU ? new HashMap<>() : null;
+        }
+
+        void put(Key key, Entry entry) {
+            entries.put(key, entry);
+            if (frequencies != null) {
+                frequencies.computeIfAbsent(1, k -> new LinkedHashSet<>()).add(key);
+                minFrequency = 1;
+            }
+            while (entries.size() > capacity) evict();
+        }
+
+        void touch(Key key, Entry entry) {
+            if (frequencies == null) return; // LRU는 접근 순서 LinkedHashMap이 처리
+
+            LinkedHashSet<Key> bucket = frequencies.get(entry.frequency);
+            bucket.remove(key);
+            if (bucket.isEmpty()) {
+                frequencies.remove(entry.frequency);
+                if (minFrequency == entry.frequency) minFrequency++;
+            }
+            entry.frequency++;
+            frequencies.computeIfAbsent(entry.frequency, k -> new LinkedHashSet<>()).add(key);
+        }
+
+        private void evict() {
+            Key victim;
+            if (frequencies == null) {
+                victim = entries.keySet().iterator().next();
+            } else {
+                LinkedHashSet<Key> bucket = frequencies.get(minFrequency);
+                if (bucket == null) {
+                    // 제거(invalidate/GC)로 최소 사용 횟수가 바뀐 경우 다시 계산
+                    minFrequency = Collections.min(frequencies.keySet());
+                    bucket = frequencies.get(minFrequency);
+                }
+                victim = bucket.iterator().next();
+            }
+            remove(victim);
+            evictions.increment();
+        }
+
+        void remove(Key key) {
+            Entry entry = entries.remove(key);
+            if (entry == null || frequencies == null) return;
+
+            LinkedHashSet<Key> bucket = frequencies.get(entry.frequency);
+            if (bucket != null && bucket.remove(key) && bucket.isEmpty()) frequencies.remove(entry.frequency);
+        }
+    }
+
+    /**
+     * {@link ConversionCache}의 설정을 지정하는 빌더입니다.
+     * <p>
+     * A builder configuring a {@link ConversionCache}.
+     */
+    public static final class Builder {
+        private int maximumSize = 1024;
+        private int concurrencyLevel = 4;
+        private Eviction eviction = Eviction.LRU;
+        private boolean weakKeys;
+        private boolean shareResults;
+        private Function<Object, ?> keyFunction;
+        private Function<Object, ?> versionFunction;
+
+        private Builder() {
+        }
+
+        /**
+         * @param maximumSize 최대 항목 수 (기본 1024) / The maximum number of entries (1024 by default).
+         */
+        public Builder maximumSize(int maximumSize) {
+            if (maximumSize <= 0) throw new IllegalArgumentException("[ConvertType] maximumSize must be positive: " + maximumSize);
+            this.maximumSize = maximumSize;
+            return this;
+        }
+
+        /**
+         * 동시에 캐시에 접근할 것으로 예상되는 스레드 수입니다. 이 수(2의 거듭제곱으로 내림)만큼 세그먼트로 나뉘어 따로 잠기지만,
+         * 세그먼트당 최소 16개 항목을 보장하도록 작은 캐시는 더 적게 나뉩니다.
+         * <p>
+         * The expected number of threads using the cache concurrently. Entries are split into that many segments
+         * (rounded down to a power of two) that lock independently, but small caches use fewer segments to keep at least 16 entries per segment.
+         *
+         * @param concurrencyLevel 예상 동시 접근 스레드 수 (기본 4) / The expected number of concurrent threads (4 by default).
+         */
+        public Builder concurrencyLevel(int concurrencyLevel) {
+            if (concurrencyLevel <= 0) throw new IllegalArgumentException("[ConvertType] concurrencyLevel must be positive: " + concurrencyLevel);
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+
+        /**
+         * @param eviction 제거 정책 (기본 {@link Eviction#LRU}) / The eviction policy ({@link Eviction#LRU} by default).
+         */
+        public Builder eviction(Eviction eviction) {
+            this.eviction = Objects.requireNonNull(eviction, "eviction");
+            return this;
+        }
+
+        /**
+         * 소스 객체를 약한 참조로 보관하여, 소스가 GC되면 항목도 제거되도록 합니다. 동일성 키에만 적용되며 {@link #keyBy(Function)}와 함께 쓸 수 없습니다.
+         * <p>
+         * Holds source objects weakly so that entries disappear once their source is garbage collected.
+         * Applies to identity keys only and cannot be combined with {@link #keyBy(Function)}.
+         */
+        public Builder weakKeys() {
+            this.weakKeys = true;
+            return this;
+        }
+
+        /**
+         * 캐시된 결과를 깊은 복사 없이 그대로 반환합니다. 같은 인스턴스가 모든 호출자에게 공유되므로, 결과를 수정하지 않는 경우에만 사용하세요.
+         * <p>
+         * Returns cached results as-is instead of a deep copy. The same instance is shared by every caller, so use it only when results are never mutated.
+         */
+        public Builder shareResults() {
+            this.shareResults = true;
+            return this;
+        }
+
+        /**
+         * 소스 객체 대신 사용할 캐시 키(식별자 등)를 지정합니다. 키는 {@code equals}/{@code hashCode}로 비교됩니다.
+         * <p>
+         * Sets the cache key (an identifier, ...) used instead of the source object. Keys are compared with {@code equals}/{@code hashCode}.
+         */
+        public Builder keyBy(Function<Object, ?> keyFunction) {
+            this.keyFunction = Objects.requireNonNull(keyFunction, "keyFunction");
+            return this;
+        }
+
+        /**
+         * 소스의 버전(예: {@code @Version} 필드)을 지정합니다. 캐시된 버전과 다르면 다시 변환합니다.
+         * <p>
+         * Sets the version of a source (e.g. its {@code @Version} field). Entries cached under a different version are converted again.
+         */
+        public Builder version(Function<Object, ?> versionFunction) {
+            this.versionFunction = Objects.requireNonNull(versionFunction, "versionFunction");
+            return this;
+        }
+
+        /**
+         * @throws IllegalArgumentException if {@link #weakKeys()} is combined with {@link #keyBy(Function)}.
+         */
+        public ConversionCache build() {
+            if (weakKeys && keyFunction != null) {
+                throw new IllegalArgumentException("[ConvertType] weakKeys() applies to identity keys only and cannot be combined with keyBy().");
+            }
+            return new ConversionCache(this);
+        }
+    }
+
+    private static final class Entry {
+        final Object value;
+        final Object version;
+        int frequency = 1;
+
+        Entry(Object value, Object version) {
+            this.value = value;
+            this.version = version;
+        }
+    }
+
+    /**
+     * 엔진 + 소스 키 + 타겟 클래스 + 변환 모드로 구성된 캐시 키입니다. 동일성 키는 {@code ==}, 사용자 키는 {@code equals}로 비교합니다.
+     * <p>
+     * The cache key made of the engine, source key, target class and conversion mode. Identity keys compare with {@code ==}, user keys with {@code equals}.
+     */
+    private static final class Key {
+        private final ConvertTypeEngine engine;
+        private final Object strong;
+        private final WeakKey weak;
+        private final Class<?> clazz;
+        private final boolean full;
+        private final boolean identity;
+        private final int hash;
+
+        Key(ConvertTypeEngine engine, Object source, Class<?> clazz, boolean full, boolean identity, ReferenceQueue<Object> queue) {
+            this.engine = engine;
+            this.weak = queue == null ? null : new WeakKey(source, queue, this);
+            this.strong = weak == null ? source : null;
+            this.clazz = clazz;
+            this.full = full;
+            this.identity = identity;
+            int h = identity ? System.identityHashCode(source) : Objects.hashCode(source);
+            this.hash = 31 * (31 * (31 * h + clazz.hashCode()) + System.identityHashCode(engine)) + (full ? 1 : 0);
+        }
+
+        Object referent() {
+            return weak == null ? strong : weak.get();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            if (hash != other.hash || clazz != other.clazz || full != other.full || engine != other.engine) return false;
+
+            Object mine = referent(), theirs = other.referent();
+            // GC된 키는 자기 자신과만 같음
+            if (mine == null && weak != null || theirs == null && other.weak != null) return false;
+            return identity ? mine == theirs : Objects.equals(mine, theirs);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class WeakKey extends WeakReference<Object> {
+        private final Key owner;
+
+        WeakKey(Object referent, ReferenceQueue<Object> queue, Key owner) {
+            super(referent, queue);
+            this.owner = owner;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.forestfull.convert_type;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * ConvertType 변환 시 이 클래스의 인스턴스를 불변(Immutable) 객체로 취급하도록 지정하는 어노테이션입니다.
+ * <p>
+ * 불변 객체는 복사하지 않고 참조를 그대로 공유하므로, 값 객체(Value Object)가 많은 객체 그래프의 변환 비용과 메모리 할당을 줄일 수 있습니다.
+ * 어노테이션을 붙일 수 없는 외부 클래스는 {@link ConvertType#registerImmutable(Class[])}로 등록할 수 있습니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ * <pre>{@code
+ * @ConvertImmutable
+ * public class Money {
+ *     private final BigDecimal amount;
+ *     private final Currency currency;
+ *     ...
+ * }
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface ConvertImmutable {
+}
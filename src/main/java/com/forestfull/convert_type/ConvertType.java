@@ -9,9 +9,17 @@ import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Java Reflection과 Jackson을 결합한 고성능 하이브리드 타입 변환 라이브러리입니다.
@@ -28,10 +36,28 @@ import java.util.function.BiConsumer;
  */
 public class ConvertType {
     static class Cache {
-        static class Clazz {
-            private static final Map<Class<?>, List<Field>> FIELD_LIST = new ConcurrentHashMap<>();
-            private static final Map<Class<?>, Map<String, Field>> FIELD_MAPS = new ConcurrentHashMap<>();
-            private static final Map<Class<?>, Optional<Constructor<?>>> CONSTRUCTORS = new ConcurrentHashMap<>();
+        /**
+         * 캐시에 값이 없으면 맵의 잠금 밖에서 계산한 뒤 {@link Map#putIfAbsent(Object, Object)}로 게시합니다.
+         * <p>
+         * {@link ConcurrentHashMap#computeIfAbsent(Object, java.util.function.Function)}는 계산하는 동안 같은 버킷의 다른 스레드를 막고
+         * 중첩 호출도 허용하지 않으므로, 배포 직후 여러 스레드가 동시에 새 클래스를 변환할 때 리플렉션 비용만큼 서로를 기다리게 됩니다.
+         * 여기서는 경합한 스레드가 같은 값을 중복 계산할 수 있지만 서로를 막지 않으며, 먼저 게시된 값을 모두가 공유합니다.
+         *
+         * <hr>
+         * <p>
+         * Computes a missing value outside of any map lock and publishes it with {@link Map#putIfAbsent(Object, Object)}.
+         * <p>
+         * {@link ConcurrentHashMap#computeIfAbsent(Object, java.util.function.Function)} blocks other threads on the same bin while computing and
+         * forbids nested calls, so a warm-up burst of threads converting new classes right after deployment waits on each other's reflection.
+         * Here racing threads may compute the same value twice, but never block, and all of them share the first published value.
+         */
+        static <K, V> V getOrBuild(Map<K, V> cache, K key, java.util.function.Function<? super K, ? extends V> builder) {
+            V value = cache.get(key);
+            if (value != null) return value;
+
+            value = builder.apply(key);
+            V previous = cache.putIfAbsent(key, value);
+            return previous != null ? previous : value;
         }
 
         static class Handle {
@@ -45,10 +71,12 @@ public class ConvertType {
             private static final MethodHandle IS_UNINITIALIZED;
             private static final MethodHandle INITIALIZE;
             private static final MethodHandle GET_IMPLEMENTATION;
+            private static final MethodHandle GET_IDENTIFIER;
+            private static final MethodHandle GET_ENTITY_NAME;
 
             static {
                 Class<?> proxy = null;
-                MethodHandle getLazy = null, isUninit = null, init = null, getImpl = null;
+                MethodHandle getLazy = null, isUninit = null, init = null, getImpl = null, getId = null, getEntityName = null;
                 try {
                     proxy = Class.forName("org.hibernate.proxy.HibernateProxy");
                     Class<?> lazyInit = Class.forName("org.hibernate.proxy.LazyInitializer");
@@ -58,6 +86,8 @@ public class ConvertType {
                     isUninit = LOOKUP.unreflect(lazyInit.getMethod("isUninitialized"));
                     init = LOOKUP.unreflect(lazyInit.getMethod("initialize"));
                     getImpl = LOOKUP.unreflect(lazyInit.getMethod("getImplementation"));
+                    getId = LOOKUP.unreflect(lazyInit.getMethod("getIdentifier"));
+                    getEntityName = LOOKUP.unreflect(lazyInit.getMethod("getEntityName"));
                 } catch (Throwable ignored) {
                 }
 
@@ -66,16 +96,27 @@ public class ConvertType {
                 IS_UNINITIALIZED = isUninit;
                 INITIALIZE = init;
                 GET_IMPLEMENTATION = getImpl;
+                GET_IDENTIFIER = getId;
+                GET_ENTITY_NAME = getEntityName;
             }
         }
     }
 
-    public static final ObjectMapper jackson = new ObjectMapper()
-            .registerModule(new JavaTimeModule())
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    /**
+     * {@link ConvertTypeEngine#defaultEngine()}가 네이티브로 변환할 수 없는 값에 사용하는 {@link ObjectMapper}입니다.
+     * <p>
+     * The {@link ObjectMapper} used by {@link ConvertTypeEngine#defaultEngine()} for values that cannot be converted natively.
+     */
+    public static final ObjectMapper jackson = newObjectMapper();
 
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
-    private static final int LIMIT_DEPTH = 50;
+    private static final Object MISSING = new Object();
+
+    static ObjectMapper newObjectMapper() {
+        return new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
 
 
     /**
@@ -93,7 +134,7 @@ public class ConvertType {
      * @return A {@link ValueObject} instance for full conversion.
      */
     public static <C> ValueObject<C> fromFull(C instance) {
-        return new ValueObject<C>(instance, true);
+        return ConvertTypeEngine.defaultEngine().fromFull(instance);
     }
 
     /**
@@ -111,79 +152,457 @@ public class ConvertType {
      * @return A {@link ValueObject} instance for default conversion.
      */
     public static <C> ValueObject<C> from(C instance) {
-        return new ValueObject<C>(instance, false);
+        return ConvertTypeEngine.defaultEngine().from(instance);
     }
 
     /**
-     * 객체 변환 작업을 수행하는 내부 헬퍼 클래스입니다.
+     * 지정한 클래스를 불변(Immutable) 타입으로 등록합니다. 등록된 타입의 인스턴스는 변환/복제 시 복사하지 않고 참조를 공유합니다.
      * <p>
-     * {@link ConvertType#from(Object)} 또는 {@link ConvertType#fromFull(Object)}를 통해 생성됩니다.
+     * {@link ConvertImmutable}을 붙일 수 없는 외부 라이브러리의 값 타입에 사용합니다.
      *
      * <hr>
      * <p>
-     * An inner helper class that performs object conversion tasks.
+     * Registers the given classes as immutable. Instances of registered types are shared by reference instead of being copied on conversion or cloning.
      * <p>
-     * It is created via {@link ConvertType#from(Object)} or {@link ConvertType#fromFull(Object)}.
+     * Use this for value types from external libraries that cannot be annotated with {@link ConvertImmutable}.
+     *
+     * @param types The classes to treat as immutable.
      */
-    public static class ValueObject<C> {
-        private final C instance;
-        private final boolean isFullSearchHibernate;
+    public static void registerImmutable(Class<?>... types) {
+        for (Class<?> type : types) {
+            Immutables.register(type);
+        }
+    }
 
-        protected ValueObject(C instance, boolean isFullSearchHibernate) {
-            this.instance = instance;
-            this.isFullSearchHibernate = isFullSearchHibernate;
+    /**
+     * 최상위 변환을 기록하는 JFR 이벤트({@code com.forestfull.convert_type.Conversion})를 {@code oneIn}번에 한 번만 기록하도록 설정합니다. 기본값은 1(모두 기록)입니다.
+     * <p>
+     * 모든 이벤트는 기본적으로 꺼져 있으며 JFR 설정에서 켭니다. 기록된 이벤트의 {@code sampling} 필드로 전체 건수를 추정할 수 있습니다.
+     * Hibernate 초기화와 Jackson 대체 변환 이벤트는 드물게 발생하므로 샘플링하지 않고 임계값({@code threshold})으로만 거릅니다.
+     * JFR 이벤트는 Java 17 이상에서 실행할 때만 기록됩니다.
+     *
+     * <p><strong>사용 예시:</strong>
+     * <pre>{@code
+     * ConvertType.sampleConversionEvents(100);
+     * // java -XX:StartFlightRecording:settings=convert-type.jfc ...
+     * //   <event name="com.forestfull.convert_type.Conversion"><setting name="enabled">true</setting><setting name="threshold">1 ms</setting></event>
+     * }</pre>
+     *
+     * <hr>
+     * <p>
+     * Records only one in {@code oneIn} top-level conversion JFR events ({@code com.forestfull.convert_type.Conversion}). Defaults to 1 (record all).
+     * <p>
+     * Every event is disabled by default and enabled through the JFR settings. The {@code sampling} field of a recorded event lets consumers estimate the total count.
+     * Hibernate initialization and Jackson fallback events are rare, so they are not sampled and only filtered by their {@code threshold}.
+     * JFR events are only recorded when running on Java 17 or later.
+     *
+     * @param oneIn Record one in this many conversions.
+     * @throws IllegalArgumentException if {@code oneIn} is less than 1.
+     */
+    public static void sampleConversionEvents(int oneIn) {
+        if (oneIn < 1) throw new IllegalArgumentException("[ConvertType] Sampling must be at least 1: " + oneIn);
+        Telemetry.sampling(oneIn);
+    }
+
+    /**
+     * 두 객체를 필드 단위로 깊게 비교하여 값이 다른 필드의 경로 목록을 반환합니다.
+     * <p>
+     * 초기화되지 않은 Hibernate 프록시는 초기화하지 않습니다. 자세한 내용은 {@link ValueObject#diff(Object)}를 참고하세요.
+     *
+     * <hr>
+     * <p>
+     * Deeply compares two objects field by field and returns the paths of the fields whose values differ.
+     * <p>
+     * Uninitialized Hibernate proxies are never initialized. See {@link ValueObject#diff(Object)} for details.
+     *
+     * @return The paths of the differing fields (e.g. {@code "product.price"}), or an empty list if they are equal.
+     * The root path {@code ""} is returned when exactly one of the objects is {@code null}.
+     */
+    public static List<String> diff(Object a, Object b) {
+        return from(a).diff(b);
+    }
+
+    /**
+     * 두 객체를 필드 단위로 깊게 비교합니다. 첫 번째 차이에서 즉시 비교를 종료합니다.
+     * <p>
+     * Deeply compares two objects field by field, stopping at the first difference.
+     *
+     * @see ValueObject#deepEquals(Object)
+     */
+    public static boolean deepEquals(Object a, Object b) {
+        return from(a).deepEquals(b);
+    }
+
+    /**
+     * {@link #deepEquals(Object, Object)}와 일관된 해시 값을 계산합니다.
+     * <p>
+     * Computes a hash code consistent with {@link #deepEquals(Object, Object)}.
+     *
+     * @see ValueObject#deepHash()
+     */
+    public static int deepHash(Object instance) {
+        return from(instance).deepHash();
+    }
+
+    /**
+     * {@link ValueObject#toBytes()}로 인코딩한 바이트 배열을 지정된 클래스의 인스턴스로 복원합니다.
+     * <p>
+     * Decodes a byte array encoded by {@link ValueObject#toBytes()} into an instance of the given class.
+     *
+     * @param bytes The encoded bytes.
+     * @param clazz The class to decode into. Its field names and types must match those of the encoded class.
+     * @return The decoded instance, or {@code null} if {@code bytes} is {@code null}.
+     * @throws IllegalArgumentException if the bytes were encoded with a different schema, or are truncated or corrupt.
+     */
+    public static <T> T fromBytes(byte[] bytes, Class<T> clazz) {
+        return ConvertTypeEngine.defaultEngine().fromBytes(bytes, clazz);
+    }
+
+    /**
+     * 버퍼의 현재 위치부터 {@link ValueObject#toBytes(ByteBuffer)}로 인코딩한 값을 읽어 복원합니다. 읽은 만큼 버퍼의 위치가 이동하므로
+     * 하나의 버퍼에 연속으로 기록된 값을 차례로 읽을 수 있습니다. Direct(Off-Heap) 버퍼도 지원합니다.
+     * <p>
+     * Decodes a value encoded by {@link ValueObject#toBytes(ByteBuffer)} at the current position of the buffer. The position moves past the value,
+     * so values written back to back can be read one after another. Direct (off-heap) buffers are supported.
+     *
+     * @param buffer The buffer to read from.
+     * @param clazz  The class to decode into. Its field names and types must match those of the encoded class.
+     * @return The decoded instance.
+     * @throws IllegalArgumentException if the data was encoded with a different schema, or is truncated or corrupt. The position is left unchanged.
+     */
+    public static <T> T fromBytes(ByteBuffer buffer, Class<T> clazz) {
+        return ConvertTypeEngine.defaultEngine().fromBytes(buffer, clazz);
+    }
+
+    /**
+     * JDBC {@link ResultSet}의 행을 변환하는 {@link ValueResultSet}을 생성합니다.
+     * <p>
+     * Creates a {@link ValueResultSet} converting the rows of a JDBC {@link ResultSet}.
+     *
+     * @param resultSet The result set to read. It is neither closed nor rewound; the caller keeps ownership.
+     * @return A {@link ValueResultSet} reading from the current cursor position.
+     */
+    public static ValueResultSet fromResultSet(ResultSet resultSet) {
+        return ConvertTypeEngine.defaultEngine().fromResultSet(resultSet);
+    }
+
+    /**
+     * 여러 소스 객체를 한 번에 변환하는 {@link ValueList}를 생성합니다.
+     * <p>
+     * 이 메서드는 지연 로딩(Lazy Loading)된 프록시 객체를 강제로 초기화하여 모든 필드를 포함시킵니다.
+     *
+     * <hr>
+     * <p>
+     * Creates a {@link ValueList} that converts several source objects at once.
+     * <p>
+     * This method forces the initialization of lazy-loaded proxy objects to include all fields.
+     *
+     * @param instances The source objects to convert.
+     * @return A {@link ValueList} instance for full conversion.
+     */
+    public static <C> ValueList<C> fromAllFull(Collection<? extends C> instances) {
+        return ConvertTypeEngine.defaultEngine().fromAllFull(instances);
+    }
+
+    /**
+     * 여러 소스 객체를 한 번에 변환하는 {@link ValueList}를 생성합니다.
+     * <p>
+     * 이 메서드는 초기화되지 않은 지연 로딩(Lazy Loading) 프록시 객체를 {@code null}로 처리하여 {@code LazyInitializationException}을 방지합니다.
+     *
+     * <hr>
+     * <p>
+     * Creates a {@link ValueList} that converts several source objects at once.
+     * <p>
+     * This method treats uninitialized lazy-loaded proxy objects as {@code null} to prevent {@code LazyInitializationException}.
+     *
+     * @param instances The source objects to convert.
+     * @return A {@link ValueList} instance for default conversion.
+     */
+    public static <C> ValueList<C> fromAll(Collection<? extends C> instances) {
+        return ConvertTypeEngine.defaultEngine().fromAll(instances);
+    }
+
+    /**
+     * 여러 객체의 일괄 변환 작업을 수행하는 내부 헬퍼 클래스입니다.
+     * <p>
+     * {@link ConvertType#fromAll(Collection)} 또는 {@link ConvertType#fromAllFull(Collection)}를 통해 생성되며,
+     * 모든 소스가 하나의 변환기를 공유하므로 요소마다 {@link ValueObject}를 생성하지 않습니다.
+     *
+     * <hr>
+     * <p>
+     * An inner helper class that performs batch conversion of several objects.
+     * <p>
+     * It is created via {@link ConvertType#fromAll(Collection)} or {@link ConvertType#fromAllFull(Collection)}.
+     * All sources share a single converter, so no {@link ValueObject} is created per element.
+     */
+    public static class ValueList<C> {
+        private final Collection<? extends C> instances;
+        private final ValueObject<C> converter;
+
+        protected ValueList(Collection<? extends C> instances, boolean isFullSearchHibernate) {
+            this(ConvertTypeEngine.defaultEngine(), instances, isFullSearchHibernate);
         }
 
-        private static List<Field> getCachedFieldList(Class<?> clazz) {
-            return Cache.Clazz.FIELD_LIST.computeIfAbsent(clazz, k -> {
-                List<Field> fields = new ArrayList<>();
-                Class<?> current = k;
-                Set<String> names = new HashSet<>();
-                while (current != null && current != Object.class) {
-                    for (Field field : current.getDeclaredFields()) {
-                        if (names.add(field.getName())) {
-                            try {
-                                // JDK 9+ 모듈 시스템 대응: 접근 불가능한 필드는 건너뜀
-                                field.setAccessible(true);
-                                fields.add(field);
-                            } catch (Throwable ignored) {
-                                // InaccessibleObjectException 등 발생 시 해당 필드는 매핑에서 제외
-                                System.err.println("[ConvertType] Warning: Could not access field '" + field.getName() + "' in class '" + current.getName() + "'. It will be ignored.");
-                            }
+        ValueList(ConvertTypeEngine engine, Collection<? extends C> instances, boolean isFullSearchHibernate) {
+            this.instances = instances == null ? Collections.<C>emptyList() : instances;
+            this.converter = new ValueObject<C>(engine, null, isFullSearchHibernate, false);
+        }
+
+        /**
+         * 모든 소스 객체를 지정된 클래스의 새 인스턴스로 변환합니다.
+         * <p>
+         * Converts every source object into a new instance of the given class.
+         *
+         * @param clazz The target class to convert to.
+         * @param <T>   The type of the returned objects.
+         * @return A new list of converted objects, in source order.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> List<T> to(Class<T> clazz) {
+            final Object event = Telemetry.beginConversion();
+            List<T> result = new ArrayList<>(instances.size());
+            try {
+                for (C instance : instances) {
+                    result.add(clazz.isInstance(instance) && Immutables.isImmutable(instance.getClass())
+                            ? (T) instance
+                            : (T) converter.convertObject(instance, clazz, converter.engine.maxDepth, null, null));
+                }
+            } finally {
+                if (event != null) Telemetry.endConversion(event, "fromAll.to", instances.isEmpty() ? null : instances.iterator().next(), clazz, result.size(), converter.isFullSearchHibernate);
+            }
+            return result;
+        }
+
+        /**
+         * 모든 소스 객체를 행(Row) 객체를 만들지 않고 타겟 클래스의 필드별 배열로 변환합니다.
+         * <p>
+         * 타겟 클래스는 열의 구성(필드명, 타입, {@code @ConvertField})만 정의하며 인스턴스는 생성되지 않습니다.
+         * 숫자 필드는 {@code int[]}/{@code long[]}/{@code double[]}, 문자열과 Enum은 사전 인코딩된 코드 배열로 담겨 행별 객체 헤더와 박싱이 없습니다.
+         *
+         * <p><strong>사용 예시:</strong>
+         * <pre>{@code
+         * ConvertedColumns columns = ConvertType.fromAll(orders).toColumns(OrderReport.class);
+         * double[] amounts = columns.doubles("amount");
+         * int[] regions = columns.codes("region");        // 사전 코드
+         * String[] names = columns.dictionary("region");  // 코드 -> 문자열
+         * }</pre>
+         *
+         * <hr>
+         * <p>
+         * Converts every source object into one array per field of the target class, without creating row objects.
+         * <p>
+         * The target class only defines the columns (field names, types, {@code @ConvertField}) and is never instantiated.
+         * Numeric fields become {@code int[]}, {@code long[]} or {@code double[]}, strings and enums dictionary-encoded code arrays,
+         * so there are no per-row object headers or boxing.
+         *
+         * @param clazz The class whose fields define the columns.
+         * @return The columns, with one row per source object in source order.
+         * @see ConvertedColumns
+         */
+        public ConvertedColumns toColumns(Class<?> clazz) {
+            List<FieldPlan> plans = new ArrayList<>();
+            for (FieldPlan plan : converter.engine.getCachedFieldPlans(clazz)) {
+                if (!plan.ignored) plans.add(plan);
+            }
+
+            final ConvertedColumns columns = new ConvertedColumns(plans, instances.size());
+            final int count = columns.columnCount();
+            int row = 0;
+            for (C instance : instances) {
+                Object source = converter.unProxy(instance);
+                if (source == null) {
+                    for (int i = 0; i < count; i++) columns.set(i, row, null);
+                    row++;
+                    continue;
+                }
+
+                @SuppressWarnings("unchecked")
+                Map<String, Object> sourceMap = source instanceof Map ? (Map<String, Object>) source : null;
+                Map<String, Field> sourceFields = sourceMap != null ? null : converter.engine.getCachedFieldMap(source.getClass());
+                for (int i = 0; i < count; i++) {
+                    FieldPlan plan = columns.plan(i);
+                    Object value = converter.readSourceValue(source, plan.sourceName, sourceMap, sourceFields);
+                    value = value == MISSING ? null : converter.unProxy(value);
+                    if (value != null && columns.isObject(i)) {
+                        try {
+                            value = converter.convertValue(value, plan.model, converter.engine.maxDepth, false, null, null);
+                        } catch (Exception e) {
+                            value = plan.fallback().convert(value);
                         }
                     }
-                    current = current.getSuperclass();
+                    columns.set(i, row, value);
                 }
-                return fields;
-            });
+                row++;
+            }
+            return columns;
         }
 
-        private static Map<String, Field> getCachedFieldMap(Class<?> clazz) {
-            return Cache.Clazz.FIELD_MAPS.computeIfAbsent(clazz, k -> {
-                Map<String, Field> map = new HashMap<>();
-                for (Field field : getCachedFieldList(k)) {
-                    map.put(field.getName(), field);
-                }
-                return map;
-            });
+        /**
+         * 호출자가 미리 할당해 둔 배열(객체 풀)에 소스 객체들을 순서대로 채워 넣습니다.
+         * <p>
+         * {@code targets[i]}가 이미 존재하면 {@link ValueObject#into(Object)}와 같이 그 객체를 재사용하고,
+         * 비어 있는 칸에만 배열의 컴포넌트 타입으로 새 인스턴스를 생성해 저장합니다.
+         * 같은 배열을 반복해서 넘기면 정상 상태(Steady State)에서는 추가 할당 없이 변환됩니다.
+         *
+         * <hr>
+         * <p>
+         * Fills the source objects, in order, into an array (object pool) preallocated by the caller.
+         * <p>
+         * Existing {@code targets[i]} objects are reused as in {@link ValueObject#into(Object)}; only empty slots receive a new instance of
+         * the array's component type. Passing the same array repeatedly reaches a steady state without additional allocation.
+         *
+         * @param targets The preallocated targets. Must be at least as long as the number of sources.
+         * @param <T>     The type of the targets.
+         * @return The number of filled targets, i.e. the number of sources.
+         * @throws IllegalArgumentException if {@code targets} is shorter than the number of sources.
+         */
+        @SuppressWarnings("unchecked")
+        public <T> int into(T[] targets) {
+            if (targets.length < instances.size()) {
+                throw new IllegalArgumentException("[ConvertType] Target array is too small. Required: " + instances.size() + ", Actual: " + targets.length);
+            }
+
+            final Class<?> componentType = targets.getClass().getComponentType();
+            int index = 0;
+            for (C instance : instances) {
+                T target = targets[index];
+                targets[index++] = target != null
+                        ? (T) converter.convertObject(instance, target.getClass(), converter.engine.maxDepth, target, null)
+                        : (T) converter.convertObject(instance, componentType, converter.engine.maxDepth, null, null);
+            }
+            return index;
         }
+    }
 
-        private static Constructor<?> getCachedConstructor(Class<?> clazz) {
-            return Cache.Clazz.CONSTRUCTORS.computeIfAbsent(clazz, k -> {
-                try {
-                    Constructor<?> c = k.getDeclaredConstructor();
+    /**
+     * JDBC {@link ResultSet}의 행을 DTO로 변환하는 내부 헬퍼 클래스입니다.
+     * <p>
+     * {@link ConvertType#fromResultSet(ResultSet)}를 통해 생성됩니다. 컬럼 라벨과 필드의 대응은 타겟 클래스와 컬럼 구성 단위로 한 번만 계산되어 캐시되며,
+     * 행마다 필드 타입에 맞는 getter({@code getLong}, {@code getString} 등)로 값을 바로 읽으므로 행별 {@link Map}을 만들지 않습니다.
+     * 라벨은 대소문자와 밑줄을 무시하고 필드명 또는 {@code @ConvertField(mapping)}과 비교합니다 ({@code USER_ID} → {@code userId}).
+     *
+     * <p><strong>사용 예시:</strong>
+     * <pre>{@code
+     * try (ResultSet rs = statement.executeQuery("SELECT user_id, user_name FROM users")) {
+     *     ConvertType.fromResultSet(rs).stream(UserDto.class).forEach(sink::accept);
+     * }
+     * }</pre>
+     *
+     * <hr>
+     * <p>
+     * An inner helper class converting the rows of a JDBC {@link ResultSet} into DTOs.
+     * <p>
+     * It is created via {@link ConvertType#fromResultSet(ResultSet)}. The mapping of column labels to fields is computed once per target class and column layout
+     * and cached; every row is read with the typed getter matching each field ({@code getLong}, {@code getString}, ...), so no {@link Map} is created per row.
+     * Labels are matched against field names or {@code @ConvertField(mapping)} ignoring case and underscores ({@code USER_ID} → {@code userId}).
+     */
+    public static class ValueResultSet {
+        private final ConvertTypeEngine engine;
+        private final ResultSet resultSet;
+
+        protected ValueResultSet(ResultSet resultSet) {
+            this(ConvertTypeEngine.defaultEngine(), resultSet);
+        }
+
+        ValueResultSet(ConvertTypeEngine engine, ResultSet resultSet) {
+            this.engine = engine;
+            this.resultSet = resultSet;
+        }
+
+        /**
+         * 남은 행을 지연(Lazy) 방식으로 변환하는 순차 {@link Stream}을 반환합니다. 스트림이 소비될 때마다 커서가 한 행씩 이동합니다.
+         * <p>
+         * Returns a sequential, lazy {@link Stream} converting the remaining rows. The cursor advances one row as each element is consumed.
+         *
+         * @param clazz The target class of each row.
+         * @param <T>   The type of the converted rows.
+         * @return A stream of converted rows.
+         * @throws IllegalStateException    if reading the result set fails, immediately or while the stream is consumed.
+         * @throws IllegalArgumentException if the class has neither a no-args constructor nor a canonical record constructor,
+         *                                  or if a column without a time zone ({@code TIMESTAMP}, {@code DATE}, {@code TIME}) is mapped to an
+         *                                  {@link java.time.Instant} or {@link java.util.Date} field.
+         */
+        public <T> Stream<T> stream(Class<T> clazz) {
+            final ResultSetPlan plan = plan(clazz);
+            Spliterator<T> rows = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                @Override
+                public boolean tryAdvance(Consumer<? super T> action) {
                     try {
-                        c.setAccessible(true);
-                    } catch (Throwable ignored) {
-                        // 생성자 접근 불가 시 Jackson 위임 등을 위해 null 반환 가능성 열어둠
-                        System.err.println("[ConvertType] Warning: Could not access constructor for '" + clazz.getName() + "'.");
-                        return Optional.empty();
+                        if (!resultSet.next()) return false;
+                        action.accept(clazz.cast(plan.read(resultSet)));
+                        return true;
+                    } catch (SQLException e) {
+                        throw new IllegalStateException("[ConvertType] Failed to read ResultSet into " + clazz.getName() + ": " + e.getMessage(), e);
                     }
-                    return Optional.of(c);
-                } catch (NoSuchMethodException e) {
-                    return Optional.empty();
                 }
-            }).orElse(null);
+            };
+            return StreamSupport.stream(rows, false);
+        }
+
+        /**
+         * 남은 모든 행을 변환하여 리스트로 반환합니다.
+         * <p>
+         * Converts all remaining rows into a list.
+         *
+         * @see #stream(Class)
+         */
+        public <T> List<T> toList(Class<T> clazz) {
+            List<T> result = new ArrayList<>();
+            stream(clazz).forEach(result::add);
+            return result;
+        }
+
+        private ResultSetPlan plan(Class<?> clazz) {
+            final ResultSetPlan.Columns layout;
+            try {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                String[] labels = new String[metaData.getColumnCount()];
+                int[] sqlTypes = new int[labels.length];
+                for (int i = 0; i < labels.length; i++) {
+                    labels[i] = metaData.getColumnLabel(i + 1);
+                    sqlTypes[i] = metaData.getColumnType(i + 1);
+                }
+                layout = new ResultSetPlan.Columns(labels, sqlTypes);
+            } catch (SQLException e) {
+                throw new IllegalStateException("[ConvertType] Failed to read ResultSet metadata: " + e.getMessage(), e);
+            }
+
+            return engine.getCachedResultSetPlan(clazz, layout);
+        }
+    }
+
+    /**
+     * 객체 변환 작업을 수행하는 내부 헬퍼 클래스입니다.
+     * <p>
+     * {@link ConvertType#from(Object)} 또는 {@link ConvertType#fromFull(Object)}(또는 같은 이름의 {@link ConvertTypeEngine} 메서드)를 통해 생성되며, 생성한 엔진의 설정과 캐시를 사용합니다.
+     *
+     * <hr>
+     * <p>
+     * An inner helper class that performs object conversion tasks.
+     * <p>
+     * It is created via {@link ConvertType#from(Object)} or {@link ConvertType#fromFull(Object)} (or the {@link ConvertTypeEngine} methods of the same name)
+     * and uses the configuration and caches of the engine that created it.
+     */
+    public static class ValueObject<C> {
+        private final ConvertTypeEngine engine;
+        private final C instance;
+        private final boolean isFullSearchHibernate;
+        /**
+         * {@code true}이면 타입이 같은 가변 객체 필드도 공유하지 않고 복사합니다 (캐시된 결과의 방어적 복사용).
+         * <p>
+         * When {@code true}, mutable object fields of an assignable type are copied instead of shared (used for defensive copies of cached results).
+         */
+        private final boolean deepCopy;
+
+        protected ValueObject(C instance, boolean isFullSearchHibernate) {
+            this(ConvertTypeEngine.defaultEngine(), instance, isFullSearchHibernate, false);
+        }
+
+        ValueObject(ConvertTypeEngine engine, C instance, boolean isFullSearchHibernate, boolean deepCopy) {
+            this.engine = engine;
+            this.instance = instance;
+            this.isFullSearchHibernate = isFullSearchHibernate;
+            this.deepCopy = deepCopy;
         }
 
         private Object unProxy(Object value) {
@@ -196,7 +615,13 @@ public class ConvertType {
 
                     if (uninitialized) {
                         if (!this.isFullSearchHibernate) return null;
-                        Cache.Hibernate.INITIALIZE.invoke(initializer);
+
+                        final Object event = Telemetry.beginInitialization();
+                        try {
+                            Cache.Hibernate.INITIALIZE.invoke(initializer);
+                        } finally {
+                            if (event != null) Telemetry.endInitialization(event, "proxy", String.valueOf(Cache.Hibernate.GET_ENTITY_NAME.invoke(initializer)));
+                        }
                     }
                     return Cache.Hibernate.GET_IMPLEMENTATION.invoke(initializer);
                 } catch (Throwable t) {
@@ -214,8 +639,14 @@ public class ConvertType {
 
                     if (!initialized) {
                         if (!this.isFullSearchHibernate) return null;
-                        Method sizeMethod = value.getClass().getMethod("size");
-                        sizeMethod.invoke(value);
+
+                        final Object event = Telemetry.beginInitialization();
+                        try {
+                            Method sizeMethod = value.getClass().getMethod("size");
+                            sizeMethod.invoke(value);
+                        } finally {
+                            if (event != null) Telemetry.endInitialization(event, "collection", className);
+                        }
                     }
                 } catch (Exception ignored) {
                 }
@@ -309,12 +740,12 @@ public class ConvertType {
                 throw new IllegalArgumentException("[ConvertType] Overwrite is not supported for Collection or Map types.");
             }
 
-            // 1. 현재 객체(A)를 복제하여 새로운 인스턴스(C) 생성
-            T newInstance = (T) to(clazz);
+            // 1. 현재 객체(A)를 복제하여 새로운 인스턴스(C) 생성 (내부의 불변 객체는 공유)
+            T newInstance = (T) convertObject(instance, clazz, engine.maxDepth, null, null);
             if (newInstance == null) return null;
 
             // 2. 소스 객체(B)의 필드를 순회하며 null이 아닌 값 덮어쓰기
-            List<Field> fields = getCachedFieldList(clazz);
+            List<Field> fields = engine.getCachedFieldList(clazz);
             for (Field field : fields) {
                 try {
                     Object sourceValue = unProxy(field.get(source));
@@ -356,219 +787,458 @@ public class ConvertType {
          * @return A new instance of the target class with copied values, or {@code null} on failure.
          */
         public <T> T to(Class<T> clazz) {
-            return to(clazz, null, LIMIT_DEPTH);
+            return to(clazz, null, null, engine.maxDepth);
         }
 
         public <T> T to(Class<T> clazz, BiConsumer<C, T> peek) {
-            return to(clazz, peek, LIMIT_DEPTH);
+            return to(clazz, peek, null, engine.maxDepth);
+        }
+
+        /**
+         * 프로젝션에 포함된 필드만 채운 새 인스턴스로 변환합니다.
+         * <p>
+         * 프로젝션에 없는 필드는 소스에서 읽지 않으므로, 지연 로딩된 연관 관계도 초기화되지 않고 타겟에는 기본값({@code null}, 0 등)이 남습니다.
+         * 중첩 경로({@code "orders.total"})는 중첩 객체와 컬렉션의 각 요소에 적용됩니다.
+         *
+         * <hr>
+         * <p>
+         * Converts into a new instance filling only the fields included in the projection.
+         * <p>
+         * Fields outside the projection are never read from the source, so lazy associations are not initialized and the target keeps
+         * their default values ({@code null}, 0, ...). Nested paths such as {@code "orders.total"} apply to nested objects and to each element of collections.
+         *
+         * @param clazz      The target class to convert to.
+         * @param projection The fields to convert, or {@code null} to convert every field.
+         * @param <T>        The type of the returned object.
+         * @return A new instance of the target class with the projected values, or {@code null} on failure.
+         */
+        public <T> T to(Class<T> clazz, Projection projection) {
+            return to(clazz, null, projection, engine.maxDepth);
+        }
+
+        public <T> T to(Class<T> clazz, Projection projection, BiConsumer<C, T> peek) {
+            return to(clazz, peek, projection, engine.maxDepth);
         }
 
+        /**
+         * 변환 결과 캐시를 거쳐 변환합니다. 캐시에 같은 소스(또는 같은 키와 버전)의 결과가 있으면 변환을 생략합니다.
+         * <p>
+         * 캐시된 결과는 기본적으로 호출자 간에 공유되지 않습니다. 결과가 불변 타입이면 그대로 반환하고, 그 외에는 깊은 복사본을 반환합니다.
+         * 깊은 복사는 변환과 비슷한 비용이 들므로, 결과를 수정하지 않는 경우 {@link ConversionCache.Builder#shareResults()}로 복사를 생략할 수 있습니다.
+         *
+         * <hr>
+         * <p>
+         * Converts through a result cache, skipping the conversion when the cache holds a result for the same source (or the same key and version).
+         * <p>
+         * By default cached results are never shared between callers: immutable results are returned as-is, anything else as a deep copy.
+         * A deep copy costs about as much as a conversion; callers that never mutate results can skip it with {@link ConversionCache.Builder#shareResults()}.
+         *
+         * @param clazz The target class to convert to.
+         * @param cache The cache holding previous results.
+         * @param <T>   The type of the returned object.
+         * @return An instance of the target class, or {@code null} on failure.
+         * @see ConversionCache
+         */
         @SuppressWarnings("unchecked")
-        private <T> T to(Class<T> clazz, BiConsumer<C, T> peek, int depth) {
-            if (depth <= 0) {
-                System.err.println("[ConvertType] Too many nested objects. Please check for circular references in your class: " + clazz.getName());
-                return null;
-            }
+        public <T> T to(Class<T> clazz, ConversionCache cache) {
+            if (instance == null) return null;
 
-            if (Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)) {
-                System.err.println("[ConvertType] Direct conversion to Collection or Map is not supported. Please use a wrapper class or DTO. Target class: " + clazz.getName());
-                return null;
-            }
+            T cached = (T) cache.get(engine, instance, clazz, isFullSearchHibernate, () -> to(clazz));
+            if (cached == null || cache.sharesResults() || Immutables.isImmutable(cached.getClass())) return cached;
 
-            depth--;
-            T newInstance;
+            // 캐시 원본은 외부로 내보내지 않고 깊은 복사본을 반환
+            return (T) new ValueObject<T>(engine, cached, true, true).convertObject(cached, cached.getClass(), engine.maxDepth, null, null);
+        }
 
-            try {
-                // Delegate to Jackson for Interfaces, Abstracts, Java Time, and String
-                if (clazz.isInterface() ||
-                        java.lang.reflect.Modifier.isAbstract(clazz.getModifiers()) ||
-                        clazz.getName().startsWith("java.time") ||
-                        clazz == String.class) { // String도 Jackson에게 위임
-                    return jackson.convertValue(instance, clazz);
-                } else {
-                    Constructor<?> constructor = getCachedConstructor(clazz);
-                    if (constructor != null) {
-                        newInstance = (T) constructor.newInstance();
-                    } else {
-                        return jackson.convertValue(instance, clazz);
+        /**
+         * 현재 보유한 객체의 필드 값을 새 인스턴스를 만들지 않고 이미 존재하는 타겟 객체에 채워 넣습니다.
+         * <p>
+         * 타겟의 중첩 객체, {@link List}의 요소, 같은 길이의 배열이 이미 존재하면 새로 생성하지 않고 재사용하므로,
+         * 같은 형태의 데이터를 반복 변환할 때 변환당 할당을 최소화할 수 있습니다.
+         * 소스에 대응하는 필드가 없거나 {@code @ConvertField(ignore = true)}인 필드는 기존 값이 그대로 유지됩니다.
+         *
+         * <p><strong>사용 예시:</strong>
+         * <pre>{@code
+         * QuoteDto reusable = new QuoteDto();
+         * for (Quote quote : stream) {
+         *     ConvertType.from(quote).into(reusable);
+         *     publish(reusable);
+         * }
+         * }</pre>
+         *
+         * <hr>
+         * <p>
+         * Fills the field values of the current object into an existing target instead of creating a new instance.
+         * <p>
+         * Nested objects, {@link List} elements and arrays of the same length already present on the target are reused rather than recreated,
+         * which keeps allocation per conversion to a minimum when the same shape is converted repeatedly.
+         * Fields with no matching source field, or marked {@code @ConvertField(ignore = true)}, keep their current values.
+         *
+         * @param target The existing object to fill.
+         * @param <T>    The type of the target.
+         * @return The given {@code target}.
+         */
+        public <T> T into(T target) {
+            if (instance == null || target == null) return target;
+
+            final Object event = Telemetry.beginConversion();
+            try {
+                convertObject(instance, target.getClass(), engine.maxDepth, target, null);
+            } finally {
+                if (event != null) Telemetry.endConversion(event, "into", instance, target.getClass(), 1, isFullSearchHibernate);
+            }
+            return target;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> T to(Class<T> clazz, BiConsumer<C, T> peek, Projection projection, int depth) {
+            final Object event = Telemetry.beginConversion();
+            T newInstance;
+            try {
+                // 불변 객체는 복사하지 않고 그대로 공유 (프로젝션은 필드를 잘라내야 하므로 제외)
+                newInstance = projection == null && clazz.isInstance(instance) && Immutables.isImmutable(instance.getClass())
+                        ? (T) instance
+                        : (T) convertObject(instance, clazz, depth, null, projection);
+            } finally {
+                if (event != null) Telemetry.endConversion(event, "to", instance, clazz, 1, isFullSearchHibernate);
+            }
+
+            if (peek != null && newInstance != null) {
+                try {
+                    peek.accept(instance, newInstance);
+                } catch (Exception e) {
+                    System.err.println("[ConvertType] Error converting object to " + clazz.getName() + ": " + e.getMessage());
+                    return null;
+                }
+            }
+
+            return newInstance;
+        }
+
+        /**
+         * 소스 객체를 지정된 클래스로 변환합니다. {@code target}이 주어지면 새로 생성하지 않고 그 객체를 채웁니다.
+         * <p>
+         * Converts the source into the given class. When {@code target} is given, it is filled instead of creating a new instance.
+         *
+         * @param projection 채울 필드, {@code null}이면 전체 필드 / The fields to fill, or {@code null} for every field.
+         */
+        private Object convertObject(Object source, Class<?> clazz, int depth, Object target, Projection projection) {
+            if (source == null) return target;
+
+            // 엔진에 등록된 사용자 변환기가 기본 변환보다 우선
+            if (target == null) {
+                Function<Object, Object> converter = engine.converter(source.getClass(), clazz);
+                if (converter != null) return converter.apply(source);
+            }
+
+            if (depth <= 0) {
+                System.err.println("[ConvertType] Too many nested objects. Please check for circular references in your class: " + clazz.getName());
+                return null;
+            }
+
+            if (Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz)) {
+                System.err.println("[ConvertType] Direct conversion to Collection or Map is not supported. Please use a wrapper class or DTO. Target class: " + clazz.getName());
+                return null;
+            }
+
+            depth--;
+
+            try {
+                // Delegate to Jackson for Interfaces, Abstracts, Java Time, and String
+                if (clazz.isInterface() ||
+                        java.lang.reflect.Modifier.isAbstract(clazz.getModifiers()) ||
+                        clazz.getName().startsWith("java.time") ||
+                        clazz == String.class) { // String도 Jackson에게 위임
+                    return target == null ? engine.convertByJackson(source, clazz) : target;
+                }
+
+                final boolean reuse = target != null;
+                if (!reuse) {
+                    Constructor<?> constructor = engine.getCachedConstructor(clazz);
+                    if (constructor != null) {
+                        target = constructor.newInstance();
+                    } else {
+                        // Record는 정규 생성자로 직접 생성 (Java 17+ 구현에서만 활성화)
+                        RecordPlan record = engine.getCachedRecordPlan(clazz);
+                        return record == null ? engine.convertByJackson(source, clazz) : toRecord(source, record, depth, projection);
                     }
                 }
 
-                // 소스 객체가 Map인 경우와 일반 객체인 경우를 분리하여 처리
-                boolean isSourceMap = instance instanceof Map;
-                Map<String, Object> sourceMap = null;
-                if (isSourceMap) {
-                    // Unchecked cast for Map source
-                    sourceMap = (Map<String, Object>) instance;
+                if (projection == null) {
+                    fill(source, target, engine.getCachedFieldPlans(clazz), null, depth, reuse);
+                } else {
+                    ProjectedPlan projected = engine.getCachedProjectedPlan(clazz, projection);
+                    fill(source, target, projected.fields, projected.children, depth, reuse);
                 }
-                Map<String, Field> sourceFields = isSourceMap ? null : getCachedFieldMap(instance.getClass());
+            } catch (Exception e) {
+                System.err.println("[ConvertType] Error converting object to " + clazz.getName() + ": " + e.getMessage());
+                return null;
+            }
 
-                // 타겟 클래스의 모든 필드를 순회하며 값을 채움
-                for (Field targetField : getCachedFieldList(clazz)) {
-                    // 1. @ConvertField(ignore = true) 체크
-                    ConvertField annotation = targetField.getAnnotation(ConvertField.class);
-                    if (annotation != null && annotation.ignore()) {
-                        continue;
+            return target;
+        }
+
+        /**
+         * 타겟 클래스의 모든 필드를 순회하며 값을 채웁니다.
+         *
+         * @param children {@code plans}와 같은 순서의 필드별 하위 프로젝션, 프로젝션이 없으면 {@code null} / The sub-projection of each field in the order of {@code plans}, or {@code null} without a projection.
+         * @param reuse {@code true}이면 타겟에 이미 존재하는 중첩 객체/컨테이너를 재사용합니다. / {@code true} to reuse nested objects and containers already on the target.
+         */
+        @SuppressWarnings("unchecked")
+        private void fill(Object source, Object target, List<FieldPlan> plans, Projection[] children, int depth, boolean reuse) throws IllegalAccessException {
+            // 소스 객체가 Map인 경우와 일반 객체인 경우를 분리하여 처리
+            boolean isSourceMap = source instanceof Map;
+            Map<String, Object> sourceMap = isSourceMap ? (Map<String, Object>) source : null;
+            Map<String, Field> sourceFields = isSourceMap ? null : engine.getCachedFieldMap(source.getClass());
+
+            for (int i = 0, size = plans.size(); i < size; i++) {
+                final FieldPlan plan = plans.get(i);
+                // 1. @ConvertField(ignore = true) 체크
+                if (plan.ignored) continue;
+
+                // 2. 매핑할 소스 필드명 결정 (mapping 지원)
+                final Field targetField = plan.field;
+
+                // 3. 소스 값 가져오기
+                Object value = readSourceValue(source, plan.sourceName, sourceMap, sourceFields);
+                if (value == MISSING) continue; // 매핑되는 소스 필드가 없음
+
+                // Hibernate Proxy 해제
+                value = unProxy(value);
+
+                // 4. 값 주입 (기본형 초기화 및 타입 변환)
+                if (value == null) {
+                    if (plan.type.isPrimitive()) targetField.set(target, plan.model.defaultValue);
+                    else if (reuse) targetField.set(target, null);
+                    continue;
+                }
+
+                // Collection/Map/배열/Optional은 중첩 깊이와 관계없이 해석된 타입 모델을 따라 새 인스턴스로 깊은 복사(Deep Copy)
+                try {
+                    Object current = reuse && !plan.type.isPrimitive() ? targetField.get(target) : null;
+                    Object converted = convertValue(value, plan.model, depth, false, current, children == null ? null : children[i]);
+                    if (!reuse || converted != current) targetField.set(target, converted);
+                } catch (Exception e) {
+                    try {
+                        targetField.set(target, plan.fallback().convert(value));
+                    } catch (Exception ignored) {
+                        System.err.println("[ConvertType] Failed to convert field: " + targetField.getName());
                     }
+                }
+            }
+        }
 
-                    // 2. 매핑할 소스 필드명 결정 (mapping 지원)
-                    String sourceFieldName = targetField.getName();
-                    if (annotation != null && !annotation.mapping().isEmpty()) {
-                        sourceFieldName = annotation.mapping();
+        private Object readSourceValue(Object source, String sourceFieldName, Map<String, Object> sourceMap, Map<String, Field> sourceFields) {
+            if (sourceMap != null) {
+                return sourceMap.containsKey(sourceFieldName) ? sourceMap.get(sourceFieldName) : MISSING;
+            }
+
+            Field sourceField = sourceFields.get(sourceFieldName);
+            if (sourceField == null) return MISSING;
+            try {
+                return sourceField.get(source);
+            } catch (Exception e) {
+                System.err.println("[ConvertType] Failed to get value from source field: " + sourceFieldName);
+                return MISSING;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object toRecord(Object source, RecordPlan record, int depth, Projection projection) throws Exception {
+            Map<String, Object> sourceMap = source instanceof Map ? (Map<String, Object>) source : null;
+            Map<String, Field> sourceFields = sourceMap != null ? null : engine.getCachedFieldMap(source.getClass());
+
+            Object[] arguments = new Object[record.components.length];
+            for (int i = 0; i < arguments.length; i++) {
+                FieldPlan plan = record.components[i];
+                // 프로젝션에 없는 컴포넌트는 소스를 읽지 않고 기본값으로 생성
+                boolean excluded = plan.ignored || (projection != null && !projection.includes(plan.field.getName()));
+                Object value = excluded ? null : unProxy(readSourceValue(source, plan.sourceName, sourceMap, sourceFields));
+
+                if (value != null && value != MISSING) {
+                    try {
+                        value = convertValue(value, plan.model, depth, false, null, projection == null ? null : projection.child(plan.field.getName()));
+                    } catch (Exception e) {
+                        value = plan.fallback().convert(value);
                     }
+                }
+                arguments[i] = value == null || value == MISSING ? plan.model.defaultValue : value;
+            }
 
-                    // 3. 소스 값 가져오기
-                    Object value = null;
-                    if (isSourceMap) {
-                        if (!sourceMap.containsKey(sourceFieldName)) continue;
-                        value = sourceMap.get(sourceFieldName);
-                    } else {
-                        Field sourceField = sourceFields.get(sourceFieldName);
-                        if (sourceField == null) continue; // 매핑되는 소스 필드가 없음
-                        try {
-                            value = sourceField.get(instance);
-                        } catch (Exception e) {
-                            System.err.println("[ConvertType] Failed to get value from source field: " + sourceFieldName);
-                            continue;
-                        }
+            return record.constructor.newInstance(arguments);
+        }
+
+        /**
+         * 해석된 타입 모델을 따라 값을 재귀적으로 변환합니다.
+         * <p>
+         * Recursively converts a value following the resolved type model.
+         *
+         * @param element    {@code true} if the value is an element of a container. Elements are deep-copied even when already assignable.
+         * @param current    The value already present on the target to reuse, or {@code null}.
+         * @param projection The projection applied to the value (or to each element of a container), or {@code null}.
+         */
+        @SuppressWarnings("unchecked")
+        private Object convertValue(Object value, TypeModel model, int depth, boolean element, Object current, Projection projection) {
+            if (element) value = unProxy(value);
+            if (value == null) return null;
+
+            switch (model.kind) {
+                case COLLECTION:
+                case ARRAY:
+                    if (value instanceof Iterable || value.getClass().isArray()) {
+                        return toContainer(value, model, depth, current, projection);
                     }
+                    break;
 
-                    // Hibernate Proxy 해제
-                    value = unProxy(value);
+                case MAP:
+                    if (value instanceof Map) {
+                        return toMap((Map<?, ?>) value, model, depth, current, projection);
+                    }
+                    break;
 
-                    // 4. 값 주입 (기본형 초기화 및 타입 변환)
-                    final Class<?> fieldType = targetField.getType();
+                case OPTIONAL:
+                    Object content = value instanceof Optional ? ((Optional<?>) value).orElse(null) : value;
+                    return Optional.ofNullable(convertValue(content, model.element, depth, true, null, projection));
 
-                    if (value == null) {
-                        if (fieldType.isPrimitive()) {
-                            if (fieldType == boolean.class) targetField.setBoolean(newInstance, false);
-                            else if (fieldType == char.class) targetField.setChar(newInstance, '\u0000');
-                            else targetField.set(newInstance, 0);
-                        }
-                        continue;
+                default:
+                    if (value instanceof Optional) {
+                        return convertValue(((Optional<?>) value).orElse(null), model, depth, element, current, projection);
+                    }
+                    if (model.instanceType.isInstance(value) && (!(element || deepCopy) || model.rawType == Object.class || Immutables.isImmutable(value.getClass()))
+                            && (projection == null || Immutables.isImmutable(value.getClass()))) {
+                        // 일반 객체나 단순 타입, 또는 컨테이너 요소 중 불변 객체인 경우 그대로 할당 (프로젝션이 걸린 객체는 잘라내기 위해 변환)
+                        return value;
                     }
+                    // 재귀 변환 시도 (타겟에 같은 타입의 객체가 이미 있으면 재사용)
+                    return current != null && model.rawType.isInstance(current)
+                            ? convertObject(value, current.getClass(), depth, current, projection)
+                            : convertObject(value, model.rawType, depth, null, projection);
+            }
 
-                    // Collection이나 Map인 경우, 무조건 새로운 인스턴스를 생성하여 깊은 복사(Deep Copy)를 수행하도록 순서 변경
-                    if (value instanceof Iterable && (Collection.class.isAssignableFrom(fieldType) || fieldType.isArray())) {
-                        // Collection 처리 로직
-                        Iterable<?> sourceIterable = (Iterable<?>) value;
-                        java.lang.reflect.Type genericType = targetField.getGenericType();
-
-                        if (genericType instanceof java.lang.reflect.ParameterizedType) {
-                            java.lang.reflect.ParameterizedType pt = (java.lang.reflect.ParameterizedType) genericType;
-                            java.lang.reflect.Type[] typeArguments = pt.getActualTypeArguments();
-
-                            if (typeArguments.length > 0 && typeArguments[0] instanceof Class) {
-                                Class<?> targetItemClass = (Class<?>) typeArguments[0];
-                                Collection<Object> targetCol;
-
-                                if (Set.class.isAssignableFrom(fieldType)) {
-                                    targetCol = new LinkedHashSet<>();
-                                } else if (List.class.isAssignableFrom(fieldType) || fieldType.isInterface()) {
-                                    targetCol = new ArrayList<>();
-                                } else {
-                                    try {
-                                        targetCol = (Collection<Object>) fieldType.getDeclaredConstructor().newInstance();
-                                    } catch (Exception e) {
-                                        targetCol = new ArrayList<>();
-                                    }
-                                }
-
-                                for (Object item : sourceIterable) {
-                                    if (item != null) {
-                                        final Object valueObject = this.isFullSearchHibernate
-                                                ? ConvertType.fromFull(item).to(targetItemClass, null, depth)
-                                                : ConvertType.from(item).to(targetItemClass, null, depth);
-
-                                        targetCol.add(valueObject);
-                                    } else {
-                                        targetCol.add(null);
-                                    }
-                                }
-
-                                if (fieldType.isArray()) {
-                                    Object array = java.lang.reflect.Array.newInstance(targetItemClass, targetCol.size());
-                                    int index = 0;
-                                    for (Object item : targetCol) {
-                                        java.lang.reflect.Array.set(array, index++, item);
-                                    }
-                                    targetField.set(newInstance, array);
-                                } else {
-                                    targetField.set(newInstance, targetCol);
-                                }
-                            } else {
-                                targetField.set(newInstance, jackson.convertValue(value, jackson.getTypeFactory().constructType(genericType)));
-                            }
-                        } else {
-                            try {
-                                targetField.set(newInstance, value);
-                            } catch (IllegalArgumentException e) {
-                                targetField.set(newInstance, jackson.convertValue(value, fieldType));
-                            }
-                        }
-                    } else if (value instanceof Map && Map.class.isAssignableFrom(fieldType)) {
-                        // Map 처리 로직
-                        Map<?, ?> sourceMapVal = (Map<?, ?>) value;
-                        Map<Object, Object> targetMap = new HashMap<>();
-                        java.lang.reflect.Type genericType = targetField.getGenericType();
-
-                        if (genericType instanceof java.lang.reflect.ParameterizedType) {
-                            java.lang.reflect.ParameterizedType pt = (java.lang.reflect.ParameterizedType) genericType;
-                            java.lang.reflect.Type[] typeArguments = pt.getActualTypeArguments();
-
-                            if (typeArguments.length > 1 && typeArguments[1] instanceof Class) {
-                                Class<?> valueClass = (Class<?>) typeArguments[1];
-                                for (Map.Entry<?, ?> entry : sourceMapVal.entrySet()) {
-                                    Object mapValue = entry.getValue();
-                                    if (mapValue != null) {
-                                        final Object valueObject = this.isFullSearchHibernate
-                                                ? ConvertType.fromFull(mapValue).to(valueClass, null, depth)
-                                                : ConvertType.from(mapValue).to(valueClass, null, depth);
-
-                                        targetMap.put(entry.getKey(), valueObject);
-                                    } else {
-                                        targetMap.put(entry.getKey(), null);
-                                    }
-                                }
-                                targetField.set(newInstance, targetMap);
-                            } else {
-                                targetField.set(newInstance, jackson.convertValue(value, jackson.getTypeFactory().constructType(genericType)));
-                            }
-                        } else {
-                            try {
-                                targetField.set(newInstance, value);
-                            } catch (IllegalArgumentException e) {
-                                targetField.set(newInstance, jackson.convertValue(value, fieldType));
-                            }
-                        }
-                    } else if (fieldType.isAssignableFrom(value.getClass())) {
-                        // 일반 객체나 단순 타입인 경우 그대로 할당
-                        targetField.set(newInstance, value);
-                    } else {
-                        // 재귀 변환 시도
-                        try {
-                            final Object valueObject = this.isFullSearchHibernate
-                                    ? ConvertType.fromFull(value).to(fieldType, null, depth)
-                                    : ConvertType.from(value).to(fieldType, null, depth);
+            return model.fallback().convert(value);
+        }
 
-                            targetField.set(newInstance, valueObject);
-                        } catch (Exception e) {
-                            try {
-                                targetField.set(newInstance, jackson.convertValue(value, fieldType));
-                            } catch (Exception ignored) {
-                            }
-                        }
+        @SuppressWarnings("unchecked")
+        private Object toMap(Map<?, ?> sourceMap, TypeModel model, int depth, Object current, Projection projection) {
+            Map<Object, Object> targetMap = null;
+            // 타겟이 소스와 같은 Map을 공유하면 비우는 순간 소스도 사라지므로 재사용하지 않고 새로 채움
+            if (current != sourceMap && current instanceof Map && model.rawType.isInstance(current)) {
+                try {
+                    targetMap = (Map<Object, Object>) current;
+                    targetMap.clear();
+                } catch (UnsupportedOperationException e) {
+                    targetMap = null;
+                }
+            }
+            if (targetMap == null) {
+                targetMap = (Map<Object, Object>) model.containerFactory.create(sourceMap, sourceMap.size());
+            }
+
+            for (Map.Entry<?, ?> entry : sourceMap.entrySet()) {
+                targetMap.put(convertValue(entry.getKey(), model.key, depth, false, null, null), convertValue(entry.getValue(), model.element, depth, true, null, projection));
+            }
+            return targetMap;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Object toContainer(Object value, TypeModel model, int depth, Object current, Projection projection) {
+            final boolean isSourceArray = value.getClass().isArray();
+            final int size = isSourceArray ? java.lang.reflect.Array.getLength(value)
+                    : value instanceof Collection ? ((Collection<?>) value).size() : -1;
+            // 타겟이 소스와 같은 컨테이너를 공유하면 (참조 할당된 경우) 재사용하지 않고 새로 채움
+            if (current == value) current = null;
+
+            if (model.kind == TypeModel.Kind.ARRAY && size >= 0) {
+                // 크기를 알면 중간 리스트 없이 배열을 바로 채움 (같은 길이의 기존 배열은 재사용)
+                Object array = current != null && current.getClass() == model.rawType && java.lang.reflect.Array.getLength(current) == size
+                        ? current
+                        : java.lang.reflect.Array.newInstance(model.element.rawType, size);
+                boolean reuseItems = array == current && !model.element.rawType.isPrimitive();
+                int index = 0;
+                if (isSourceArray) {
+                    for (; index < size; index++) {
+                        Object reusable = reuseItems ? java.lang.reflect.Array.get(array, index) : null;
+                        java.lang.reflect.Array.set(array, index, convertValue(java.lang.reflect.Array.get(value, index), model.element, depth, true, reusable, projection));
+                    }
+                } else {
+                    for (Object item : (Iterable<?>) value) {
+                        Object reusable = reuseItems ? java.lang.reflect.Array.get(array, index) : null;
+                        java.lang.reflect.Array.set(array, index++, convertValue(item, model.element, depth, true, reusable, projection));
                     }
                 }
+                return array;
+            }
 
-                if (peek != null) peek.accept((C) instance, newInstance);
+            if (model.kind == TypeModel.Kind.COLLECTION && current instanceof Collection && model.rawType.isInstance(current)) {
+                try {
+                    return refill((Collection<Object>) current, value, size, model, depth, projection);
+                } catch (UnsupportedOperationException ignored) {
+                    // 불변 컬렉션은 재사용하지 않고 새로 생성
+                }
+            }
 
-            } catch (Exception e) {
-                System.err.println("[ConvertType] Error converting object to " + clazz.getName() + ": " + e.getMessage());
-                return null;
+            Collection<Object> targetCol = (Collection<Object>) model.containerFactory.create(value, size >= 0 ? size : 10);
+            if (isSourceArray) {
+                for (int index = 0; index < size; index++) {
+                    targetCol.add(convertValue(java.lang.reflect.Array.get(value, index), model.element, depth, true, null, projection));
+                }
+            } else {
+                for (Object item : (Iterable<?>) value) {
+                    targetCol.add(convertValue(item, model.element, depth, true, null, projection));
+                }
             }
 
-            return newInstance;
+            if (model.kind != TypeModel.Kind.ARRAY) return targetCol;
+
+            Object array = java.lang.reflect.Array.newInstance(model.element.rawType, targetCol.size());
+            int index = 0;
+            for (Object item : targetCol) {
+                java.lang.reflect.Array.set(array, index++, item);
+            }
+            return array;
+        }
+
+        /**
+         * 기존 컬렉션을 비우지 않고 다시 채웁니다. {@link List}는 같은 위치의 요소 객체를 재사용합니다.
+         * <p>
+         * Refills an existing collection. For a {@link List}, the element objects at the same positions are reused.
+         */
+        @SuppressWarnings("unchecked")
+        private Collection<Object> refill(Collection<Object> target, Object value, int size, TypeModel model, int depth, Projection projection) {
+            final boolean isSourceArray = value.getClass().isArray();
+
+            if (!(target instanceof List)) {
+                target.clear();
+                if (isSourceArray) {
+                    for (int index = 0; index < size; index++) {
+                        target.add(convertValue(java.lang.reflect.Array.get(value, index), model.element, depth, true, null, projection));
+                    }
+                } else {
+                    for (Object item : (Iterable<?>) value) {
+                        target.add(convertValue(item, model.element, depth, true, null, projection));
+                    }
+                }
+                return target;
+            }
+
+            List<Object> list = (List<Object>) target;
+            final int existing = list.size();
+            int index = 0;
+            if (isSourceArray) {
+                for (; index < size; index++) {
+                    Object item = java.lang.reflect.Array.get(value, index);
+                    if (index < existing) list.set(index, convertValue(item, model.element, depth, true, list.get(index), projection));
+                    else list.add(convertValue(item, model.element, depth, true, null, projection));
+                }
+            } else {
+                for (Object item : (Iterable<?>) value) {
+                    if (index < existing) list.set(index, convertValue(item, model.element, depth, true, list.get(index), projection));
+                    else list.add(convertValue(item, model.element, depth, true, null, projection));
+                    index++;
+                }
+            }
+            if (index < existing) list.subList(index, existing).clear();
+            return list;
         }
 
         /**
@@ -587,15 +1257,104 @@ public class ConvertType {
          * @return A {@link ConvertedMap} representation of the object.
          */
         public ConvertedMap toMap() {
+            return toMap(instance, null, engine.maxDepth);
+        }
+
+        /**
+         * 프로젝션에 포함된 필드만 담은 {@link ConvertedMap}으로 변환합니다.
+         * <p>
+         * 프로젝션에 없는 필드는 읽지도, 프록시를 해제하지도 않습니다.
+         * 중첩 경로({@code "orders.total"})가 지정된 필드의 값은 객체라면 하위 {@link ConvertedMap}으로,
+         * 컬렉션/배열이라면 요소별 {@link ConvertedMap}의 {@link List}로 담깁니다.
+         *
+         * <hr>
+         * <p>
+         * Converts to a {@link ConvertedMap} containing only the fields included in the projection.
+         * <p>
+         * Fields outside the projection are neither read nor un-proxied.
+         * The value of a field with nested paths (such as {@code "orders.total"}) becomes a nested {@link ConvertedMap} for an object,
+         * or a {@link List} of {@link ConvertedMap}s for a collection or array.
+         *
+         * @param projection The fields to include, or {@code null} to include every field.
+         * @return A {@link ConvertedMap} with the projected fields.
+         */
+        public ConvertedMap toMap(Projection projection) {
+            return toMap(instance, projection, engine.maxDepth);
+        }
+
+        /**
+         * 현재 객체를 캐시된 필드 정보 기반의 압축 바이너리로 인코딩합니다.
+         * <p>
+         * 필드명 없이 선언 순서대로 값만 기록하며(정수는 가변 길이, null은 비트맵), 같은 필드 구성의 클래스로
+         * {@link ConvertType#fromBytes(byte[], Class)}를 통해 복원할 수 있습니다. {@code @ConvertField(ignore = true)} 필드는 기록하지 않습니다.
+         * 초기화되지 않은 Hibernate 프록시는 {@link ConvertType#from(Object)}로 생성한 경우 {@code null}로 기록됩니다.
+         * 중첩 객체는 필드의 선언 타입 레이아웃으로 기록하므로, 선언 타입의 하위 클래스 값과 Comparator를 가진 정렬 컬렉션/Map은 인코딩할 수 없습니다.
+         *
+         * <p><strong>사용 예시:</strong>
+         * <pre>{@code
+         * byte[] bytes = ConvertType.from(dto).toBytes();
+         * QuoteDto restored = ConvertType.fromBytes(bytes, QuoteDto.class);
+         * }</pre>
+         *
+         * <hr>
+         * <p>
+         * Encodes the current object into a compact binary form based on the cached field metadata.
+         * <p>
+         * Only values are written, in declaration order and without field names (integers as varints, nulls in a bitmap).
+         * They can be restored with {@link ConvertType#fromBytes(byte[], Class)} into a class with the same fields.
+         * Fields marked {@code @ConvertField(ignore = true)} are not written.
+         * Uninitialized Hibernate proxies are written as {@code null} when created with {@link ConvertType#from(Object)}.
+         * Nested objects are written with the layout of the field's declared type, so subclass values of the declared type
+         * and sorted collections or maps with a comparator cannot be encoded.
+         *
+         * @return The encoded bytes, or {@code null} if the current object is {@code null}.
+         * @throws IllegalArgumentException if the class has neither a no-args constructor nor a canonical record constructor,
+         *                                  or a nested value is a subclass of its declared type or a sorted container with a comparator.
+         */
+        public byte[] toBytes() {
+            Object source = unProxy(instance);
+            return source == null ? null : BinaryCodec.encode(engine, source, this::unProxy);
+        }
+
+        /**
+         * 현재 객체를 주어진 버퍼의 현재 위치부터 인코딩합니다. Direct(Off-Heap) 버퍼에도 중간 배열 없이 바로 기록합니다.
+         * <p>
+         * Encodes the current object at the current position of the given buffer, writing straight into direct (off-heap) buffers without an intermediate array.
+         *
+         * @param buffer The buffer to write to.
+         * @return The given {@code buffer}, positioned after the encoded value. Nothing is written if the current object is {@code null}.
+         * @throws java.nio.BufferOverflowException if the remaining space is too small. The position is left unchanged.
+         * @see #toBytes()
+         */
+        public ByteBuffer toBytes(ByteBuffer buffer) {
+            Object source = unProxy(instance);
+            if (source != null) BinaryCodec.encode(engine, buffer, source, this::unProxy);
+            return buffer;
+        }
+
+        private ConvertedMap toMap(Object source, Projection projection, int depth) {
             ConvertedMap map = new ConvertedMap();
-            if (instance == null) return map;
+            if (source == null) return map;
+
+            if (depth <= 0) {
+                System.err.println("[ConvertType] Too many nested objects. Please check for circular references in your class: " + source.getClass().getName());
+                return map;
+            }
 
             // Map인 경우 그대로 복사 (putAll 사용)
-            if (instance instanceof Map) {
+            if (source instanceof Map) {
                 try {
                     @SuppressWarnings("unchecked")
-                    Map<String, Object> sourceMap = (Map<String, Object>) instance;
-                    map.putAll(sourceMap);
+                    Map<String, Object> sourceMap = (Map<String, Object>) source;
+                    if (projection == null) {
+                        map.putAll(sourceMap);
+                    } else {
+                        for (Map.Entry<String, Object> entry : sourceMap.entrySet()) {
+                            if (projection.includes(entry.getKey())) {
+                                map.put(entry.getKey(), project(entry.getValue(), projection.child(entry.getKey()), depth - 1));
+                            }
+                        }
+                    }
                 } catch (Exception e) {
                     System.err.println("[ConvertType] Failed to copy Map content: " + e.getMessage());
                 }
@@ -604,26 +1363,413 @@ public class ConvertType {
 
             // Collection인 경우 (List, Set 등) -> 리스트 형태로 반환할 수 없으므로,
             // "data"라는 키에 리스트를 담아서 반환하거나, 에러를 뱉어야 함.
-            if (instance instanceof Collection) {
+            if (source instanceof Collection) {
                 System.err.println("[ConvertType] Warning: Collection type cannot be converted to Map directly. Returning empty map.");
                 return map;
             }
 
-            // 일반 객체인 경우 필드 순회
-            for (Field field : getCachedFieldList(instance.getClass())) {
-                ConvertField annotation = field.getAnnotation(ConvertField.class);
-                if (annotation != null && annotation.ignore()) {
-                    continue;
-                }
+            // 일반 객체인 경우 필드 순회 (프로젝션이 있으면 포함된 필드만)
+            final List<FieldPlan> plans;
+            final Projection[] children;
+            if (projection == null) {
+                plans = engine.getCachedFieldPlans(source.getClass());
+                children = null;
+            } else {
+                ProjectedPlan projected = engine.getCachedProjectedPlan(source.getClass(), projection);
+                plans = projected.fields;
+                children = projected.children;
+            }
+
+            for (int i = 0, size = plans.size(); i < size; i++) {
+                final FieldPlan plan = plans.get(i);
+                if (plan.ignored) continue;
 
+                final Field field = plan.field;
                 try {
-                    Object value = unProxy(field.get(instance));
-                    map.put(field.getName(), value);
+                    Object value = unProxy(field.get(source));
+                    map.put(field.getName(), children == null ? value : project(value, children[i], depth - 1));
                 } catch (Exception e) {
                     System.err.println("[ConvertType] Failed to access field: " + field.getName());
                 }
             }
             return map;
         }
+
+        /**
+         * 하위 프로젝션이 지정된 값을 {@link ConvertedMap}(컬렉션/배열은 그 {@link List})으로 잘라냅니다.
+         * <p>
+         * Trims a value with a sub-projection into a {@link ConvertedMap} (or a {@link List} of them for collections and arrays).
+         */
+        private Object project(Object value, Projection projection, int depth) {
+            if (value == null || projection == null) return value;
+
+            if (value instanceof Optional) {
+                return ((Optional<?>) value).map(content -> project(unProxy(content), projection, depth));
+            }
+            if (value instanceof Iterable || value.getClass().isArray()) {
+                List<Object> list = new ArrayList<>();
+                if (value instanceof Iterable) {
+                    for (Object item : (Iterable<?>) value) list.add(project(unProxy(item), projection, depth));
+                } else {
+                    for (int index = 0, length = java.lang.reflect.Array.getLength(value); index < length; index++) {
+                        list.add(project(unProxy(java.lang.reflect.Array.get(value, index)), projection, depth));
+                    }
+                }
+                return list;
+            }
+            if (isValueType(value.getClass())) return value;
+            return toMap(value, projection, depth);
+        }
+
+        /**
+         * 현재 객체와 인자로 받은 객체를 캐시된 필드 정보로 깊게 비교하여, 값이 다른 필드의 경로 목록을 반환합니다.
+         * <p>
+         * 중첩된 객체(POJO)는 하위 필드까지 내려가 {@code "product.price"}와 같은 경로로 보고하며,
+         * 컬렉션/Map/배열 필드는 첫 번째 차이에서 비교를 멈추고 해당 필드 경로 하나로 보고합니다.
+         * {@code @ConvertField(ignore = true)} 필드는 비교하지 않습니다.
+         * 두 루트 객체 중 한쪽만 {@code null}이면 루트 자체가 다른 것이므로 루트 경로 {@code ""} 하나를 반환합니다.
+         *
+         * <p><strong>Hibernate 프록시:</strong>
+         * {@link ConvertType#from(Object)}로 생성한 경우, 초기화되지 않은 프록시와 컬렉션은 초기화하지 않고
+         * 엔티티 이름과 식별자(컬렉션은 Role과 Owner Key)로만 비교합니다. 식별자를 알 수 없는 쪽과 비교하면 다른 값으로 간주합니다.
+         * {@link ConvertType#fromFull(Object)}로 생성한 경우에만 초기화한 후 내용을 비교합니다.
+         *
+         * <p><strong>사용 예시:</strong>
+         * <pre>{@code
+         * List<String> changed = ConvertType.from(storedEntity).diff(incomingEntity);
+         * if (changed.isEmpty()) return; // 변경 사항이 없으면 쓰기 생략
+         * }</pre>
+         *
+         * <hr>
+         * <p>
+         * Deeply compares the current object with the given object using the cached field metadata and returns the paths of the differing fields.
+         * <p>
+         * Nested objects (POJOs) are descended into and reported with paths such as {@code "product.price"}.
+         * Collection, map and array fields stop at their first difference and are reported as a single field path.
+         * Fields marked {@code @ConvertField(ignore = true)} are not compared.
+         *
+         * <p><strong>Hibernate proxies:</strong>
+         * When created with {@link ConvertType#from(Object)}, uninitialized proxies and collections are never initialized;
+         * they are compared by entity name and identifier (role and owner key for collections) only, and are considered different
+         * from anything whose identity is unknown. Only {@link ConvertType#fromFull(Object)} initializes them and compares their contents.
+         *
+         * @param other The object to compare with. Must be of the same class as the current object.
+         * @return The paths of the differing fields, or an empty list if both objects are deeply equal.
+         * If exactly one of the two root objects is {@code null}, the root itself differs and the list holds the single root path {@code ""}.
+         * @throws IllegalArgumentException if the objects are not of the same class, or are a {@link Collection} or {@link Map}.
+         */
+        public List<String> diff(Object other) {
+            List<String> differences = new ArrayList<>();
+            Object a = resolveForComparison(instance);
+            Object b = resolveForComparison(other);
+            if (a == b) return differences;
+            if (a == null || b == null) {
+                differences.add("");
+                return differences;
+            }
+
+            if (!a.getClass().equals(b.getClass())) {
+                throw new IllegalArgumentException("Diff failed: Both objects must be of the same class. Target: " + a.getClass().getName() + ", Source: " + b.getClass().getName());
+            }
+            if (a instanceof Collection || a instanceof Map) {
+                throw new IllegalArgumentException("[ConvertType] Diff is not supported for Collection or Map types.");
+            }
+
+            diff(a, b, "", differences, engine.maxDepth);
+            return differences;
+        }
+
+        /**
+         * 현재 객체와 인자로 받은 객체를 캐시된 필드 정보로 깊게 비교합니다. 첫 번째 차이에서 즉시 {@code false}를 반환합니다.
+         * <p>
+         * 비교 규칙과 Hibernate 프록시 처리 방식은 {@link #diff(Object)}와 같습니다.
+         * <p>
+         * {@link Set}의 값 타입 요소(String, 숫자, Enum, JDK 타입)는 해시 조회로 비교하지만,
+         * 그 외 요소(특히 {@code equals}를 정의하지 않은 Bean)는 사용자 {@code equals} 대신 deepEquals로 일대일 매칭하므로
+         * 요소 수에 대해 O(n²)으로 비교합니다. {@link SortedSet}은 Comparator 기준이므로 모든 요소를 이 방식으로 비교합니다.
+         *
+         * <hr>
+         * <p>
+         * Deeply compares the current object with the given object using the cached field metadata, returning {@code false} at the first difference.
+         * <p>
+         * The comparison rules and the handling of Hibernate proxies are the same as {@link #diff(Object)}.
+         * <p>
+         * Value-type elements of a {@link Set} (strings, numbers, enums, JDK types) are compared by hash lookup,
+         * while other elements (notably beans without {@code equals}) are matched one-to-one with deepEquals instead of the user's {@code equals},
+         * which is O(n²) in the number of elements. {@link SortedSet}s order by comparator, so all of their elements are matched this way.
+         *
+         * @param other The object to compare with.
+         * @return {@code true} if both objects are deeply equal.
+         */
+        public boolean deepEquals(Object other) {
+            return deepEquals(instance, other, engine.maxDepth);
+        }
+
+        /**
+         * {@link #deepEquals(Object)}와 일관된 해시 값을 계산합니다. 깊게 같은 두 객체는 항상 같은 해시 값을 가집니다.
+         * <p>
+         * Computes a hash code consistent with {@link #deepEquals(Object)}. Two deeply equal objects always have the same hash code.
+         *
+         * @return The deep hash code of the current object.
+         */
+        public int deepHash() {
+            return deepHash(instance, engine.maxDepth);
+        }
+
+        private void diff(Object a, Object b, String prefix, List<String> differences, int depth) {
+            for (FieldPlan plan : engine.getCachedFieldPlans(a.getClass())) {
+                if (plan.ignored) continue;
+
+                final String path = prefix + plan.field.getName();
+                try {
+                    Object valueA = resolveForComparison(plan.field.get(a));
+                    Object valueB = resolveForComparison(plan.field.get(b));
+                    if (valueA == valueB) continue;
+
+                    if (valueA != null && valueB != null && valueA.getClass() == valueB.getClass() && depth > 1 && isBean(valueA.getClass())) {
+                        diff(valueA, valueB, path + ".", differences, depth - 1);
+                    } else if (!deepEquals(valueA, valueB, depth - 1)) {
+                        differences.add(path);
+                    }
+                } catch (Exception e) {
+                    System.err.println("[ConvertType] Failed to access field: " + plan.field.getName());
+                    differences.add(path);
+                }
+            }
+        }
+
+        private boolean deepEquals(Object a, Object b, int depth) {
+            if (a == b) return true;
+            a = resolveForComparison(a);
+            b = resolveForComparison(b);
+            if (a == b) return true;
+            if (a == null || b == null) return false;
+
+            final Class<?> clazz = a.getClass();
+            if (depth <= 0 || a instanceof ProxyIdentity || b instanceof ProxyIdentity || isValueType(clazz)) {
+                return a.equals(b);
+            }
+
+            if (clazz.isArray()) {
+                if (b.getClass() != clazz) return false;
+                int length = java.lang.reflect.Array.getLength(a);
+                if (length != java.lang.reflect.Array.getLength(b)) return false;
+                for (int i = 0; i < length; i++) {
+                    if (!deepEquals(java.lang.reflect.Array.get(a, i), java.lang.reflect.Array.get(b, i), depth - 1)) return false;
+                }
+                return true;
+            }
+
+            if (a instanceof Optional || b instanceof Optional) {
+                if (!(a instanceof Optional && b instanceof Optional)) return false;
+                return deepEquals(((Optional<?>) a).orElse(null), ((Optional<?>) b).orElse(null), depth - 1);
+            }
+
+            if (a instanceof Map || b instanceof Map) {
+                if (!(a instanceof Map && b instanceof Map)) return false;
+                Map<?, ?> mapA = (Map<?, ?>) a, mapB = (Map<?, ?>) b;
+                if (mapA.size() != mapB.size()) return false;
+                for (Map.Entry<?, ?> entry : mapA.entrySet()) {
+                    Object valueB = mapB.get(entry.getKey());
+                    if (valueB == null && !mapB.containsKey(entry.getKey())) return false;
+                    if (!deepEquals(entry.getValue(), valueB, depth - 1)) return false;
+                }
+                return true;
+            }
+
+            if (a instanceof Set || b instanceof Set) {
+                if (!(a instanceof Set && b instanceof Set)) return false;
+                Set<?> setA = (Set<?>) a, setB = (Set<?>) b;
+                if (setA.size() != setB.size()) return false;
+                // 값 타입 요소는 deepEquals가 equals와 같으므로 해시 조회로 비교 (정렬 Set은 Comparator 기준이라 제외)
+                final boolean lookup = !(setB instanceof SortedSet);
+                List<Object> pending = null;
+                for (Object itemA : setA) {
+                    if (lookup && itemA != null && isValueType(itemA.getClass())) {
+                        if (!setB.contains(itemA)) return false;
+                    } else {
+                        if (pending == null) pending = new ArrayList<>();
+                        pending.add(itemA);
+                    }
+                }
+                if (pending == null) return true;
+
+                // 그 외 요소(equals가 없는 Bean 등)는 deepEquals로 일대일 매칭 (O(n²))
+                List<Object> candidates = new ArrayList<>(pending.size());
+                for (Object itemB : setB) {
+                    if (!lookup || itemB == null || !isValueType(itemB.getClass())) candidates.add(itemB);
+                }
+                if (candidates.size() != pending.size()) return false;
+                outer:
+                for (Object itemA : pending) {
+                    for (Iterator<Object> iterator = candidates.iterator(); iterator.hasNext(); ) {
+                        if (deepEquals(itemA, iterator.next(), depth - 1)) {
+                            iterator.remove();
+                            continue outer;
+                        }
+                    }
+                    return false;
+                }
+                return true;
+            }
+
+            if (a instanceof Collection || b instanceof Collection) {
+                if (!(a instanceof Collection && b instanceof Collection)) return false;
+                Collection<?> colA = (Collection<?>) a, colB = (Collection<?>) b;
+                if (colA.size() != colB.size()) return false;
+                if (colA instanceof List && colA instanceof RandomAccess && colB instanceof List && colB instanceof RandomAccess) {
+                    List<?> listA = (List<?>) colA, listB = (List<?>) colB;
+                    for (int i = 0, size = listA.size(); i < size; i++) {
+                        if (!deepEquals(listA.get(i), listB.get(i), depth - 1)) return false;
+                    }
+                    return true;
+                }
+                Iterator<?> iteratorB = colB.iterator();
+                for (Object itemA : colA) {
+                    if (!deepEquals(itemA, iteratorB.next(), depth - 1)) return false;
+                }
+                return true;
+            }
+
+            if (b.getClass() != clazz) return false;
+
+            for (FieldPlan plan : engine.getCachedFieldPlans(clazz)) {
+                if (plan.ignored) continue;
+                try {
+                    if (!deepEquals(plan.field.get(a), plan.field.get(b), depth - 1)) return false;
+                } catch (Exception e) {
+                    System.err.println("[ConvertType] Failed to access field: " + plan.field.getName());
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private int deepHash(Object value, int depth) {
+            value = resolveForComparison(value);
+            if (value == null) return 0;
+
+            final Class<?> clazz = value.getClass();
+            if (depth <= 0 || value instanceof ProxyIdentity || isValueType(clazz)) return value.hashCode();
+
+            int hash = 1;
+            if (clazz.isArray()) {
+                for (int i = 0, length = java.lang.reflect.Array.getLength(value); i < length; i++) {
+                    hash = 31 * hash + deepHash(java.lang.reflect.Array.get(value, i), depth - 1);
+                }
+                return hash;
+            }
+            if (value instanceof Optional) {
+                return deepHash(((Optional<?>) value).orElse(null), depth - 1);
+            }
+            if (value instanceof Map) {
+                hash = 0;
+                for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                    hash += Objects.hashCode(entry.getKey()) ^ deepHash(entry.getValue(), depth - 1);
+                }
+                return hash;
+            }
+            if (value instanceof Set) {
+                hash = 0;
+                for (Object item : (Set<?>) value) {
+                    hash += deepHash(item, depth - 1);
+                }
+                return hash;
+            }
+            if (value instanceof Collection) {
+                for (Object item : (Collection<?>) value) {
+                    hash = 31 * hash + deepHash(item, depth - 1);
+                }
+                return hash;
+            }
+
+            hash = clazz.getName().hashCode();
+            for (FieldPlan plan : engine.getCachedFieldPlans(clazz)) {
+                if (plan.ignored) continue;
+                try {
+                    hash = 31 * hash + deepHash(plan.field.get(value), depth - 1);
+                } catch (Exception e) {
+                    System.err.println("[ConvertType] Failed to access field: " + plan.field.getName());
+                }
+            }
+            return hash;
+        }
+
+        /**
+         * 비교를 위해 Hibernate 프록시를 해제합니다. 초기화가 허용되지 않으면 프록시를 초기화하지 않고 식별자({@link ProxyIdentity})로 대체합니다.
+         * <p>
+         * Unwraps Hibernate proxies for comparison. When initialization is not allowed, uninitialized proxies are replaced by their identity ({@link ProxyIdentity}).
+         */
+        private Object resolveForComparison(Object value) {
+            if (value == null || Cache.Hibernate.PROXY_CLASS == null || isFullSearchHibernate) return unProxy(value);
+
+            if (Cache.Hibernate.PROXY_CLASS.isAssignableFrom(value.getClass())) {
+                try {
+                    Object initializer = Cache.Hibernate.GET_LAZY_INITIALIZER.invoke(value);
+                    if ((boolean) Cache.Hibernate.IS_UNINITIALIZED.invoke(initializer)) {
+                        return new ProxyIdentity(Cache.Hibernate.GET_ENTITY_NAME.invoke(initializer), Cache.Hibernate.GET_IDENTIFIER.invoke(initializer));
+                    }
+                    return Cache.Hibernate.GET_IMPLEMENTATION.invoke(initializer);
+                } catch (Throwable t) {
+                    System.err.println("[ConvertType] Failed to unProxy Hibernate object: " + t.getMessage());
+                    return new ProxyIdentity(value, null);
+                }
+            }
+
+            if (value.getClass().getName().startsWith("org.hibernate.collection")) {
+                try {
+                    Class<?> collectionClass = value.getClass();
+                    if (!(boolean) collectionClass.getMethod("wasInitialized").invoke(value)) {
+                        return new ProxyIdentity(collectionClass.getMethod("getRole").invoke(value), collectionClass.getMethod("getKey").invoke(value));
+                    }
+                } catch (Exception e) {
+                    return new ProxyIdentity(value, null);
+                }
+            }
+
+            return value;
+        }
+
+        private static boolean isValueType(Class<?> clazz) {
+            if (clazz.isPrimitive() || clazz.isEnum() || Number.class.isAssignableFrom(clazz) || CharSequence.class.isAssignableFrom(clazz)) return true;
+            if (clazz.isArray() || Collection.class.isAssignableFrom(clazz) || Map.class.isAssignableFrom(clazz) || clazz == Optional.class) return false;
+
+            // JDK 타입(java.time, UUID, Boolean 등)은 자체 equals/hashCode를 신뢰
+            String name = clazz.getName();
+            return name.startsWith("java.") || name.startsWith("javax.");
+        }
+
+        private static boolean isBean(Class<?> clazz) {
+            return clazz != ProxyIdentity.class && !clazz.isArray() && !isValueType(clazz) && !Collection.class.isAssignableFrom(clazz)
+                    && !Map.class.isAssignableFrom(clazz) && clazz != Optional.class;
+        }
+
+        /**
+         * 초기화되지 않은 Hibernate 프록시/컬렉션을 대신하는 식별자입니다. 같은 엔티티(Role)와 식별자(Key)를 가리키면 같은 값으로 봅니다.
+         * <p>
+         * Stands in for an uninitialized Hibernate proxy or collection. Equal when pointing at the same entity (role) and identifier (key).
+         */
+        private static final class ProxyIdentity {
+            private final Object name;
+            private final Object id;
+
+            private ProxyIdentity(Object name, Object id) {
+                this.name = name;
+                this.id = id;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (!(o instanceof ProxyIdentity)) return false;
+                ProxyIdentity other = (ProxyIdentity) o;
+                // 식별자를 알 수 없으면 같은 프록시 인스턴스일 때만 같음
+                return id == null ? name == other.name && other.id == null : Objects.equals(name, other.name) && id.equals(other.id);
+            }
+
+            @Override
+            public int hashCode() {
+                return id == null ? System.identityHashCode(name) : 31 * Objects.hashCode(name) + id.hashCode();
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,510 @@
+package com.forestfull.convert_type;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 설정과 캐시를 독립적으로 가지는 변환 엔진입니다.
+ * <p>
+ * {@link ConvertType}의 정적 메서드({@code from}, {@code fromFull}, {@code fromAll} 등)는 모두 {@link #defaultEngine()}에 위임합니다.
+ * 하나의 JVM에서 모듈이나 테넌트마다 중첩 깊이, 지연 로딩 처리 방식, Jackson 대체 변환용 {@link ObjectMapper}, 사용자 변환기를 다르게 두거나
+ * 지연 시간이 중요한 경로를 배치 작업과 다른 캐시로 분리하려면 {@link #builder()}로 별도의 엔진을 만들어 사용합니다.
+ * 엔진마다 클래스 메타데이터, 변환 계획, 바이너리 스키마, ResultSet 계획, Jackson 변환기 캐시를 따로 가지므로 서로의 맵을 경합하지 않습니다.
+ * 엔진은 스레드에 안전하며, 한 번 만들어 공유하는 용도입니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ * <pre>{@code
+ * private static final ConvertTypeEngine PRICING = ConvertTypeEngine.builder()
+ *         .maxDepth(8)
+ *         .objectMapper(pricingMapper)
+ *         .converter(Money.class, String.class, Money::toPlainString)
+ *         .build();
+ *
+ * QuoteDto dto = PRICING.from(quote).to(QuoteDto.class);
+ * }</pre>
+ *
+ * <hr>
+ * <p>
+ * A conversion engine with its own configuration and caches.
+ * <p>
+ * The static methods of {@link ConvertType} ({@code from}, {@code fromFull}, {@code fromAll}, ...) all delegate to {@link #defaultEngine()}.
+ * To give modules or tenants of one JVM their own nesting depth, lazy loading mode, fallback {@link ObjectMapper} or custom converters,
+ * or to keep latency-critical paths off the caches used by batch workloads, build a separate engine with {@link #builder()}.
+ * Each engine holds its own class metadata, conversion plans, binary schemas, ResultSet plans and Jackson converters, so engines never contend on each other's maps.
+ * Engines are thread-safe and meant to be built once and shared.
+ *
+ * @author vigfoot
+ */
+public final class ConvertTypeEngine {
+    private static final int DEFAULT_DEPTH = 50;
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int DEFAULT_PLANS_PER_CLASS = 256;
+    /**
+     * 변환기가 없음을 캐시하는 표식 / Marker caching the absence of a converter.
+     */
+    private static final Function<Object, Object> NO_CONVERTER = value -> value;
+    private static final ConvertTypeEngine DEFAULT = builder().objectMapper(ConvertType.jackson).build();
+
+    private static final Function<Class<?>, Optional<Constructor<?>>> CONSTRUCTOR_BUILDER = k -> {
+        try {
+            Constructor<?> c = k.getDeclaredConstructor();
+            if (!Access.makeAccessible(c)) {
+                // 생성자 접근 불가 시 Jackson 위임 등을 위해 null 반환 가능성 열어둠
+                System.err.println("[ConvertType] Warning: Could not access constructor for '" + k.getName() + "'.");
+                return Optional.empty();
+            }
+            return Optional.of(c);
+        } catch (NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    };
+
+    final ObjectMapper mapper;
+    final int maxDepth;
+    private final boolean initializeLazyProxies;
+    private final int maximumPlansPerClass;
+    /**
+     * 타겟 타입(래퍼) → 소스 타입 → 변환기 / Target type (boxed) → source type → converter.
+     */
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters;
+    /**
+     * 상위 클래스/인터페이스까지 탐색한 변환기 조회 결과 / Converter lookups resolved through superclasses and interfaces.
+     */
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> resolvedConverters;
+
+    private final Map<Class<?>, List<Field>> fieldLists;
+    private final Map<Class<?>, Map<String, Field>> fieldMaps;
+    private final Map<Class<?>, Optional<Constructor<?>>> constructors;
+    private final Map<Class<?>, List<FieldPlan>> fieldPlans;
+    private final Map<Class<?>, Optional<RecordPlan>> records;
+    private final Map<Class<?>, Map<Projection, ProjectedPlan>> projectedPlans;
+    private final Map<Class<?>, Map<ResultSetPlan.Columns, ResultSetPlan>> resultSetPlans;
+    private final Map<Class<?>, JacksonFallback> fallbacks;
+    final Map<Class<?>, BinaryCodec.Layout> layouts;
+
+    // 캐시 적중 시 변환마다 this를 캡처하는 람다를 만들지 않도록 빌더를 필드로 보관
+    private final Function<Class<?>, List<Field>> fieldListBuilder = this::buildFieldList;
+    private final Function<Class<?>, Map<String, Field>> fieldMapBuilder = this::buildFieldMap;
+    private final Function<Class<?>, List<FieldPlan>> fieldPlanBuilder = this::buildFieldPlans;
+    private final Function<Class<?>, Optional<RecordPlan>> recordBuilder = this::buildRecordPlan;
+    private final Function<Class<?>, JacksonFallback> fallbackBuilder = this::buildFallback;
+    final Function<Class<?>, BinaryCodec.Layout> layoutBuilder = this::buildLayout;
+
+    private ConvertTypeEngine(Builder builder) {
+        this.mapper = builder.mapper;
+        this.maxDepth = builder.maxDepth;
+        this.initializeLazyProxies = builder.initializeLazyProxies;
+        this.maximumPlansPerClass = builder.maximumPlansPerClass;
+
+        Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters = new HashMap<>();
+        for (Map.Entry<Class<?>, Map<Class<?>, Function<Object, Object>>> entry : builder.converters.entrySet()) {
+            converters.put(entry.getKey(), Collections.unmodifiableMap(new HashMap<>(entry.getValue())));
+        }
+        this.converters = Collections.unmodifiableMap(converters);
+        this.resolvedConverters = new ConcurrentHashMap<>();
+
+        final int capacity = builder.initialCacheCapacity;
+        this.fieldLists = new ConcurrentHashMap<>(capacity);
+        this.fieldMaps = new ConcurrentHashMap<>(capacity);
+        this.constructors = new ConcurrentHashMap<>(capacity);
+        this.fieldPlans = new ConcurrentHashMap<>(capacity);
+        this.records = new ConcurrentHashMap<>(capacity);
+        this.projectedPlans = new ConcurrentHashMap<>(capacity);
+        this.resultSetPlans = new ConcurrentHashMap<>(capacity);
+        this.fallbacks = new ConcurrentHashMap<>(capacity);
+        this.layouts = new ConcurrentHashMap<>(capacity);
+    }
+
+    /**
+     * {@link ConvertType}의 정적 메서드가 사용하는 기본 엔진을 반환합니다. Jackson 대체 변환에는 {@link ConvertType#jackson}을 사용합니다.
+     * <p>
+     * Returns the default engine used by the static methods of {@link ConvertType}. It falls back to {@link ConvertType#jackson}.
+     */
+    public static ConvertTypeEngine defaultEngine() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 이 엔진으로 변환을 시작하는 {@link ConvertType.ValueObject}를 생성합니다.
+     * 초기화되지 않은 지연 로딩 프록시는 {@link Builder#initializeLazyProxies(boolean)} 설정에 따라 {@code null}로 처리하거나 초기화합니다 (기본: {@code null}).
+     * <p>
+     * Creates a {@link ConvertType.ValueObject} converting with this engine.
+     * Uninitialized lazy-loading proxies are treated as {@code null} or initialized according to {@link Builder#initializeLazyProxies(boolean)} ({@code null} by default).
+     *
+     * @see ConvertType#from(Object)
+     */
+    public <C> ConvertType.ValueObject<C> from(C instance) {
+        return new ConvertType.ValueObject<C>(this, instance, initializeLazyProxies, false);
+    }
+
+    /**
+     * 이 엔진으로 변환을 시작하는 {@link ConvertType.ValueObject}를 생성합니다. 지연 로딩 프록시를 항상 초기화합니다.
+     * <p>
+     * Creates a {@link ConvertType.ValueObject} converting with this engine. Lazy-loading proxies are always initialized.
+     *
+     * @see ConvertType#fromFull(Object)
+     */
+    public <C> ConvertType.ValueObject<C> fromFull(C instance) {
+        return new ConvertType.ValueObject<C>(this, instance, true, false);
+    }
+
+    /**
+     * @see ConvertType#fromAll(Collection)
+     * @see #from(Object)
+     */
+    public <C> ConvertType.ValueList<C> fromAll(Collection<? extends C> instances) {
+        return new ConvertType.ValueList<C>(this, instances, initializeLazyProxies);
+    }
+
+    /**
+     * @see ConvertType#fromAllFull(Collection)
+     */
+    public <C> ConvertType.ValueList<C> fromAllFull(Collection<? extends C> instances) {
+        return new ConvertType.ValueList<C>(this, instances, true);
+    }
+
+    /**
+     * @see ConvertType#fromBytes(byte[], Class)
+     */
+    public <T> T fromBytes(byte[] bytes, Class<T> clazz) {
+        return bytes == null ? null : BinaryCodec.decode(this, ByteBuffer.wrap(bytes), clazz);
+    }
+
+    /**
+     * @see ConvertType#fromBytes(ByteBuffer, Class)
+     */
+    public <T> T fromBytes(ByteBuffer buffer, Class<T> clazz) {
+        return BinaryCodec.decode(this, buffer, clazz);
+    }
+
+    /**
+     * @see ConvertType#fromResultSet(ResultSet)
+     */
+    public ConvertType.ValueResultSet fromResultSet(ResultSet resultSet) {
+        return new ConvertType.ValueResultSet(this, resultSet);
+    }
+
+    /**
+     * 이 엔진이 보관한 클래스 메타데이터와 변환 계획을 모두 비웁니다. 클래스 로더를 교체한 뒤(재배포 등) 이전 클래스를 놓아줄 때 사용합니다.
+     * <p>
+     * Clears every class metadata and conversion plan held by this engine, e.g. to release old classes after a class loader is replaced on redeployment.
+     */
+    public void clearCaches() {
+        fieldLists.clear();
+        fieldMaps.clear();
+        constructors.clear();
+        fieldPlans.clear();
+        records.clear();
+        projectedPlans.clear();
+        resultSetPlans.clear();
+        fallbacks.clear();
+        layouts.clear();
+        resolvedConverters.clear();
+    }
+
+    /**
+     * 소스 타입(또는 그 상위 클래스, 구현한 인터페이스)에서 타겟 타입으로 등록된 변환기를 찾습니다.
+     * 상위 클래스를 먼저, 그다음 인터페이스를 가까운 순서로 탐색하며 결과는 소스 타입별로 캐시합니다.
+     * <p>
+     * Looks up the converter registered from the source type (or one of its superclasses or interfaces) to the target type.
+     * Superclasses are searched first, then interfaces nearest first; the result is cached per source type.
+     *
+     * @return The converter, or {@code null} if none is registered.
+     */
+    Function<Object, Object> converter(Class<?> source, Class<?> target) {
+        if (converters.isEmpty()) return null;
+
+        final Class<?> key = boxed(target);
+        Map<Class<?>, Function<Object, Object>> bySource = converters.get(key);
+        if (bySource == null) return null;
+        Function<Object, Object> converter = bySource.get(source);
+        if (converter != null) return converter;
+
+        Map<Class<?>, Function<Object, Object>> resolved = ConvertType.Cache.getOrBuild(resolvedConverters, key, k -> new ConcurrentHashMap<>());
+        converter = resolved.get(source);
+        if (converter == null) {
+            converter = resolveConverter(bySource, source);
+            resolved.putIfAbsent(source, converter);
+        }
+        return converter == NO_CONVERTER ? null : converter;
+    }
+
+    private static Function<Object, Object> resolveConverter(Map<Class<?>, Function<Object, Object>> bySource, Class<?> source) {
+        for (Class<?> current = source; current != null; current = current.getSuperclass()) {
+            Function<Object, Object> converter = bySource.get(current);
+            if (converter != null) return converter;
+        }
+
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        for (Class<?> current = source; current != null; current = current.getSuperclass()) {
+            queue.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        while (!queue.isEmpty()) {
+            Class<?> candidate = queue.poll();
+            if (!visited.add(candidate)) continue;
+            Function<Object, Object> converter = bySource.get(candidate);
+            if (converter != null) return converter;
+            queue.addAll(Arrays.asList(candidate.getInterfaces()));
+        }
+        return NO_CONVERTER;
+    }
+
+    List<Field> getCachedFieldList(Class<?> clazz) {
+        return ConvertType.Cache.getOrBuild(fieldLists, clazz, fieldListBuilder);
+    }
+
+    private List<Field> buildFieldList(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> current = clazz;
+        Set<String> names = new HashSet<>();
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                if (names.add(field.getName())) {
+                    // JDK 9+ 모듈 시스템 대응: 접근 불가능한 필드는 매핑에서 제외
+                    if (Access.makeAccessible(field)) {
+                        fields.add(field);
+                    } else {
+                        System.err.println("[ConvertType] Warning: Could not access field '" + field.getName() + "' in class '" + current.getName() + "'. It will be ignored.");
+                    }
+                }
+            }
+            current = current.getSuperclass();
+        }
+        return fields;
+    }
+
+    Map<String, Field> getCachedFieldMap(Class<?> clazz) {
+        return ConvertType.Cache.getOrBuild(fieldMaps, clazz, fieldMapBuilder);
+    }
+
+    private Map<String, Field> buildFieldMap(Class<?> clazz) {
+        Map<String, Field> map = new HashMap<>();
+        for (Field field : getCachedFieldList(clazz)) {
+            map.put(field.getName(), field);
+        }
+        return map;
+    }
+
+    List<FieldPlan> getCachedFieldPlans(Class<?> clazz) {
+        return ConvertType.Cache.getOrBuild(fieldPlans, clazz, fieldPlanBuilder);
+    }
+
+    private List<FieldPlan> buildFieldPlans(Class<?> clazz) {
+        List<Field> fields = getCachedFieldList(clazz);
+        List<FieldPlan> plans = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            plans.add(new FieldPlan(field, mapper));
+        }
+        return plans;
+    }
+
+    /**
+     * 프로젝션에 포함된 필드만 남긴 변환 계획을 클래스와 프로젝션 단위로 캐시합니다.
+     * 캐시 적중 시에는 람다를 만들지 않도록 먼저 조회하고, 없을 때만 계획을 만듭니다.
+     * <p>
+     * Caches, per class and projection, the conversion plan trimmed to the projected fields.
+     * Looks up first so that a cache hit allocates no lambda; the plan is only built on a miss.
+     */
+    ProjectedPlan getCachedProjectedPlan(Class<?> clazz, Projection projection) {
+        Map<Projection, ProjectedPlan> plans = projectedPlans.get(clazz);
+        ProjectedPlan plan = plans == null ? null : plans.get(projection);
+        if (plan != null) return plan;
+
+        List<FieldPlan> fields = new ArrayList<>();
+        List<Projection> children = new ArrayList<>();
+        for (FieldPlan field : getCachedFieldPlans(clazz)) {
+            if (!projection.includes(field.field.getName())) continue;
+            fields.add(field);
+            children.add(projection.child(field.field.getName()));
+        }
+        return putBounded(ConvertType.Cache.getOrBuild(projectedPlans, clazz, k -> new ConcurrentHashMap<>()),
+                projection, new ProjectedPlan(fields, children.toArray(new Projection[0])));
+    }
+
+    /**
+     * 컬럼 구성(라벨과 SQL 타입)에 대한 ResultSet 계획을 클래스 단위로 캐시합니다. 캐시 적중 시에는 먼저 조회하여 람다를 만들지 않습니다.
+     * <p>
+     * Caches, per class, the ResultSet plan of a column layout (labels and SQL types). A cache hit is looked up first and allocates no lambda.
+     */
+    ResultSetPlan getCachedResultSetPlan(Class<?> clazz, ResultSetPlan.Columns layout) {
+        Map<ResultSetPlan.Columns, ResultSetPlan> plans = resultSetPlans.get(clazz);
+        ResultSetPlan plan = plans == null ? null : plans.get(layout);
+        if (plan != null) return plan;
+
+        return putBounded(ConvertType.Cache.getOrBuild(resultSetPlans, clazz, k -> new ConcurrentHashMap<>()),
+                layout, ResultSetPlan.of(this, clazz, layout));
+    }
+
+    /**
+     * 클래스별 계획 맵에 계획을 저장합니다. {@link Builder#maximumPlansPerClass(int)}에 도달하면 임의의 기존 계획 하나를 제거합니다.
+     * <p>
+     * Stores a plan in a per-class plan map, evicting an arbitrary existing plan once {@link Builder#maximumPlansPerClass(int)} is reached.
+     */
+    private <K, V> V putBounded(Map<K, V> plans, K key, V plan) {
+        if (plans.size() >= maximumPlansPerClass) {
+            Iterator<K> keys = plans.keySet().iterator();
+            if (keys.hasNext()) {
+                keys.next();
+                keys.remove();
+            }
+        }
+        V previous = plans.putIfAbsent(key, plan);
+        return previous != null ? previous : plan;
+    }
+
+    Object convertByJackson(Object value, Class<?> clazz) {
+        return ConvertType.Cache.getOrBuild(fallbacks, clazz, fallbackBuilder).convert(value);
+    }
+
+    private JacksonFallback buildFallback(Class<?> clazz) {
+        return new JacksonFallback(mapper, clazz);
+    }
+
+    private BinaryCodec.Layout buildLayout(Class<?> clazz) {
+        return new BinaryCodec.Layout(this, clazz);
+    }
+
+    RecordPlan getCachedRecordPlan(Class<?> clazz) {
+        return ConvertType.Cache.getOrBuild(records, clazz, recordBuilder).orElse(null);
+    }
+
+    private Optional<RecordPlan> buildRecordPlan(Class<?> clazz) {
+        String[] components = Access.recordComponents(clazz);
+        Constructor<?> constructor = components == null ? null : Access.canonicalConstructor(clazz);
+        if (constructor == null) return Optional.empty();
+
+        Map<String, FieldPlan> plans = new HashMap<>();
+        for (FieldPlan plan : getCachedFieldPlans(clazz)) {
+            plans.put(plan.field.getName(), plan);
+        }
+
+        FieldPlan[] ordered = new FieldPlan[components.length];
+        for (int i = 0; i < components.length; i++) {
+            ordered[i] = plans.get(components[i]);
+            if (ordered[i] == null) return Optional.empty();
+        }
+        return Optional.of(new RecordPlan(constructor, ordered));
+    }
+
+    Constructor<?> getCachedConstructor(Class<?> clazz) {
+        return ConvertType.Cache.getOrBuild(constructors, clazz, CONSTRUCTOR_BUILDER).orElse(null);
+    }
+
+    private static Class<?> boxed(Class<?> type) {
+        return type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+    }
+
+    /**
+     * {@link ConvertTypeEngine}을 생성하는 빌더입니다.
+     * <p>
+     * 클래스 단위 캐시(필드, 생성자, 변환 계획, 바이너리 레이아웃 등)는 변환한 클래스 수만큼만 커지며, 재배포 시에는 {@link ConvertTypeEngine#clearCaches()}로 비웁니다.
+     * 프로젝션과 ResultSet 컬럼 구성처럼 호출마다 달라질 수 있는 계획은 클래스당 {@link #maximumPlansPerClass(int)}개로 제한됩니다.
+     * <p>
+     * 다음 설정은 엔진별이 아니라 JVM 전역입니다: 불변 타입 등록과 판별 결과({@link ConvertType#registerImmutable(Class[])}, {@link ConvertImmutable}),
+     * 그리고 JFR 변환 이벤트 샘플링({@link ConvertType#sampleConversionEvents(int)}). 엔진마다 다르게 둘 수 없습니다.
+     *
+     * <hr>
+     * <p>
+     * A builder creating a {@link ConvertTypeEngine}.
+     * <p>
+     * Per-class caches (fields, constructors, conversion plans, binary layouts, ...) only grow with the number of converted classes; clear them with
+     * {@link ConvertTypeEngine#clearCaches()} on redeployment. Plans that may vary per call, for projections and ResultSet column layouts, are limited to
+     * {@link #maximumPlansPerClass(int)} per class.
+     * <p>
+     * The following settings are JVM-global rather than per engine and cannot differ between engines: immutable type registrations and classifications
+     * ({@link ConvertType#registerImmutable(Class[])}, {@link ConvertImmutable}), and JFR conversion event sampling ({@link ConvertType#sampleConversionEvents(int)}).
+     */
+    public static final class Builder {
+        private ObjectMapper mapper;
+        private int maxDepth = DEFAULT_DEPTH;
+        private boolean initializeLazyProxies;
+        private int initialCacheCapacity = DEFAULT_CAPACITY;
+        private int maximumPlansPerClass = DEFAULT_PLANS_PER_CLASS;
+        private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters = new HashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * 네이티브로 변환할 수 없는 값에 사용할 {@link ObjectMapper}를 지정합니다. 지정하지 않으면 {@link ConvertType#jackson}과 같은 설정의 새 매퍼를 사용합니다.
+         * <p>
+         * Sets the {@link ObjectMapper} used for values that cannot be converted natively. Defaults to a new mapper configured like {@link ConvertType#jackson}.
+         */
+        public Builder objectMapper(ObjectMapper mapper) {
+            this.mapper = Objects.requireNonNull(mapper, "mapper");
+            return this;
+        }
+
+        /**
+         * @param maxDepth 순환 참조로 판단하기 전까지 허용할 최대 중첩 깊이 (기본 50) / The maximum nesting depth before a circular reference is assumed (50 by default).
+         */
+        public Builder maxDepth(int maxDepth) {
+            if (maxDepth <= 0) throw new IllegalArgumentException("[ConvertType] maxDepth must be positive: " + maxDepth);
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * @param initializeLazyProxies {@link ConvertTypeEngine#from(Object)}와 {@link ConvertTypeEngine#fromAll(Collection)}가 초기화되지 않은 지연 로딩 프록시를 초기화할지 여부 (기본 {@code false}) /
+         *                              Whether {@link ConvertTypeEngine#from(Object)} and {@link ConvertTypeEngine#fromAll(Collection)} initialize uninitialized lazy-loading proxies ({@code false} by default).
+         */
+        public Builder initializeLazyProxies(boolean initializeLazyProxies) {
+            this.initializeLazyProxies = initializeLazyProxies;
+            return this;
+        }
+
+        /**
+         * @param initialCacheCapacity 엔진의 캐시별 초기 용량, 변환할 클래스 수에 맞추면 워밍업 중 재해싱을 피할 수 있습니다 (기본 16) /
+         *                             The initial capacity of each engine cache; sizing it to the number of converted classes avoids rehashing during warm-up (16 by default).
+         */
+        public Builder initialCacheCapacity(int initialCacheCapacity) {
+            if (initialCacheCapacity < 0) throw new IllegalArgumentException("[ConvertType] initialCacheCapacity must not be negative: " + initialCacheCapacity);
+            this.initialCacheCapacity = initialCacheCapacity;
+            return this;
+        }
+
+        /**
+         * @param maximumPlansPerClass 클래스마다 캐시할 프로젝션 계획과 ResultSet 계획의 최대 수, 넘으면 임의의 계획을 제거합니다 (기본 256) /
+         *                             The maximum number of projection plans and of ResultSet plans cached per class; beyond it an arbitrary plan is evicted (256 by default).
+         */
+        public Builder maximumPlansPerClass(int maximumPlansPerClass) {
+            if (maximumPlansPerClass <= 0) throw new IllegalArgumentException("[ConvertType] maximumPlansPerClass must be positive: " + maximumPlansPerClass);
+            this.maximumPlansPerClass = maximumPlansPerClass;
+            return this;
+        }
+
+        /**
+         * 소스 타입(또는 그 하위 클래스, 구현 클래스)의 값을 타겟 타입으로 변환하는 변환기를 등록합니다. 최상위 변환과 필드, 컬렉션 요소 변환 모두에 적용되며
+         * 기본 변환보다 우선합니다. 소스 값이 이미 타겟 타입의 필드에 그대로 할당 가능하면 호출되지 않습니다.
+         * <p>
+         * Registers a converter from the source type (or its subclasses and implementations) to the target type. It applies to top-level conversions as well as fields
+         * and collection elements, taking precedence over the built-in conversion. It is not called when the source value is directly assignable to the target field.
+         */
+        @SuppressWarnings("unchecked")
+        public <S, T> Builder converter(Class<S> source, Class<T> target, Function<? super S, ? extends T> converter) {
+            Objects.requireNonNull(source, "source");
+            Objects.requireNonNull(target, "target");
+            Objects.requireNonNull(converter, "converter");
+            converters.computeIfAbsent(boxed(target), k -> new HashMap<>()).put(source, (Function<Object, Object>) converter);
+            return this;
+        }
+
+        public ConvertTypeEngine build() {
+            if (mapper == null) mapper = ConvertType.newObjectMapper();
+            return new ConvertTypeEngine(this);
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.forestfull.convert_type;
+
+import java.util.*;
+
+/**
+ * 여러 객체를 행(Row) 객체 없이 필드별 배열로 변환한 열 지향(Struct-of-Arrays) 결과입니다.
+ * <p>
+ * {@link ConvertType.ValueList#toColumns(Class)}로 생성되며, 타겟 클래스의 필드마다 하나의 열을 가집니다.
+ * <ul>
+ *     <li>{@code int}/{@code short}/{@code byte}/{@code char} 및 래퍼 → {@code int[]} ({@link #ints(String)})</li>
+ *     <li>{@code long}/{@code Long} → {@code long[]} ({@link #longs(String)})</li>
+ *     <li>{@code double}/{@code float} 및 래퍼 → {@code double[]} ({@link #doubles(String)})</li>
+ *     <li>{@code boolean}/{@code Boolean} → {@code boolean[]} ({@link #booleans(String)})</li>
+ *     <li>{@link String}/Enum → 사전 인코딩: 행별 코드 {@code int[]} ({@link #codes(String)}) + 사전 {@code String[]} ({@link #dictionary(String)})</li>
+ *     <li>그 외 타입 → 변환된 값의 {@code Object[]} ({@link #objects(String)})</li>
+ * </ul>
+ * 값이 {@code null}인 칸은 열별 null 비트맵({@link #isNull(String, int)})에 표시되며, 원시 배열에는 0이, 코드 배열에는 -1이 들어갑니다.
+ * 반환되는 배열은 복사본이 아닌 내부 저장소이므로 벡터화된 집계 코드에 그대로 넘길 수 있습니다 (수정하지 마세요).
+ *
+ * <hr>
+ * <p>
+ * A column-oriented (struct-of-arrays) result converting several objects into one array per field, without row objects.
+ * <p>
+ * Created by {@link ConvertType.ValueList#toColumns(Class)}, with one column per field of the target class.
+ * <ul>
+ *     <li>{@code int}, {@code short}, {@code byte}, {@code char} and wrappers → {@code int[]} ({@link #ints(String)})</li>
+ *     <li>{@code long}, {@code Long} → {@code long[]} ({@link #longs(String)})</li>
+ *     <li>{@code double}, {@code float} and wrappers → {@code double[]} ({@link #doubles(String)})</li>
+ *     <li>{@code boolean}, {@code Boolean} → {@code boolean[]} ({@link #booleans(String)})</li>
+ *     <li>{@link String} and enums → dictionary encoded: per-row codes {@code int[]} ({@link #codes(String)}) + dictionary {@code String[]} ({@link #dictionary(String)})</li>
+ *     <li>Any other type → {@code Object[]} of converted values ({@link #objects(String)})</li>
+ * </ul>
+ * {@code null} cells are marked in the per-column null bitmap ({@link #isNull(String, int)}); primitive arrays hold 0 and code arrays hold -1 there.
+ * Returned arrays are the internal storage rather than copies, so they can be handed to vectorized aggregation code directly (do not modify them).
+ *
+ * @author vigfoot
+ */
+public final class ConvertedColumns {
+    enum Kind {INT, LONG, DOUBLE, BOOLEAN, STRING, OBJECT}
+
+    private static final class Column {
+        final String name;
+        final FieldPlan plan;
+        final Kind kind;
+        final Object values;
+        final Map<String, Integer> codesByValue;
+        final List<String> dictionary;
+        BitSet nulls;
+
+        Column(FieldPlan plan, int size) {
+            this.name = plan.field.getName();
+            this.plan = plan;
+            this.kind = kindOf(plan.model.instanceType);
+            switch (kind) {
+                case INT:
+                    values = new int[size];
+                    break;
+                case LONG:
+                    values = new long[size];
+                    break;
+                case DOUBLE:
+                    values = new double[size];
+                    break;
+                case BOOLEAN:
+                    values = new boolean[size];
+                    break;
+                case STRING:
+                    values = new int[size];
+                    break;
+                default:
+                    values = new Object[size];
+            }
+            this.codesByValue = kind == Kind.STRING ? new HashMap<>() : null;
+            this.dictionary = kind == Kind.STRING ? new ArrayList<>() : null;
+        }
+    }
+
+    private final int size;
+    private final Column[] columns;
+    private final Map<String, Column> byName;
+    private String[][] dictionaries;
+
+    ConvertedColumns(List<FieldPlan> plans, int size) {
+        this.size = size;
+        this.columns = new Column[plans.size()];
+        this.byName = new LinkedHashMap<>();
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = new Column(plans.get(i), size);
+            byName.put(columns[i].name, columns[i]);
+        }
+    }
+
+    static Kind kindOf(Class<?> type) {
+        if (type == Integer.class || type == Short.class || type == Byte.class || type == Character.class) return Kind.INT;
+        if (type == Long.class) return Kind.LONG;
+        if (type == Double.class || type == Float.class) return Kind.DOUBLE;
+        if (type == Boolean.class) return Kind.BOOLEAN;
+        if (type == String.class || type.isEnum()) return Kind.STRING;
+        return Kind.OBJECT;
+    }
+
+    /**
+     * @return 변환 전 값을 그대로 {@link #set(int, int, Object)}에 넘기지 않고 타입 모델로 먼저 변환해야 하는 열인지 여부 /
+     * Whether the column holds objects that must be converted through their type model before {@link #set(int, int, Object)}.
+     */
+    boolean isObject(int column) {
+        return columns[column].kind == Kind.OBJECT;
+    }
+
+    FieldPlan plan(int column) {
+        return columns[column].plan;
+    }
+
+    int columnCount() {
+        return columns.length;
+    }
+
+    void set(int column, int row, Object value) {
+        final Column target = columns[column];
+        if (value == null) {
+            if (target.nulls == null) target.nulls = new BitSet(size);
+            target.nulls.set(row);
+            if (target.kind == Kind.STRING) ((int[]) target.values)[row] = -1;
+            return;
+        }
+
+        switch (target.kind) {
+            case INT:
+                ((int[]) target.values)[row] = value instanceof Character ? (Character) value : number(target, value).intValue();
+                break;
+            case LONG:
+                ((long[]) target.values)[row] = number(target, value).longValue();
+                break;
+            case DOUBLE:
+                ((double[]) target.values)[row] = number(target, value).doubleValue();
+                break;
+            case BOOLEAN:
+                ((boolean[]) target.values)[row] = value instanceof Boolean ? (Boolean) value : (Boolean) target.plan.model.fallback().convert(value);
+                break;
+            case STRING:
+                String text;
+                if (value instanceof String) {
+                    text = (String) value;
+                } else if (value instanceof Enum) {
+                    text = ((Enum<?>) value).name();
+                } else {
+                    Object converted = target.plan.fallback().convert(value);
+                    text = converted instanceof Enum ? ((Enum<?>) converted).name() : String.valueOf(converted);
+                }
+                Integer code = target.codesByValue.get(text);
+                if (code == null) {
+                    code = target.dictionary.size();
+                    target.codesByValue.put(text, code);
+                    target.dictionary.add(text);
+                }
+                ((int[]) target.values)[row] = code;
+                break;
+            default:
+                ((Object[]) target.values)[row] = value;
+        }
+    }
+
+    private static Number number(Column column, Object value) {
+        if (value instanceof Number) return (Number) value;
+        Object converted = column.plan.model.fallback().convert(value);
+        return converted instanceof Character ? (int) (Character) converted : (Number) converted;
+    }
+
+    /**
+     * @return 행 수 / The number of rows.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return 필드 선언 순서대로의 열 이름 / The column names, in field declaration order.
+     */
+    public List<String> names() {
+        return Collections.unmodifiableList(new ArrayList<>(byName.keySet()));
+    }
+
+    /**
+     * @return 열에 대응하는 타겟 필드의 선언 타입 / The declared type of the target field backing the column.
+     */
+    public Class<?> type(String column) {
+        return column(column).plan.type;
+    }
+
+    public int[] ints(String column) {
+        return (int[]) values(column, Kind.INT);
+    }
+
+    public long[] longs(String column) {
+        return (long[]) values(column, Kind.LONG);
+    }
+
+    public double[] doubles(String column) {
+        return (double[]) values(column, Kind.DOUBLE);
+    }
+
+    public boolean[] booleans(String column) {
+        return (boolean[]) values(column, Kind.BOOLEAN);
+    }
+
+    /**
+     * @return 행별 사전 코드, {@code null}은 -1 / The dictionary code of each row, -1 for {@code null}.
+     */
+    public int[] codes(String column) {
+        return (int[]) values(column, Kind.STRING);
+    }
+
+    /**
+     * @return 사전 코드 순서대로의 고유 문자열 (처음 등장한 순서) / The distinct strings indexed by code, in order of first appearance.
+     */
+    public String[] dictionary(String column) {
+        Column target = column(column);
+        requireKind(target, Kind.STRING);
+        if (dictionaries == null) dictionaries = new String[columns.length][];
+
+        int index = Arrays.asList(columns).indexOf(target);
+        if (dictionaries[index] == null) dictionaries[index] = target.dictionary.toArray(new String[0]);
+        return dictionaries[index];
+    }
+
+    /**
+     * 사전 인코딩된 열의 한 칸을 문자열로 복원합니다.
+     * <p>
+     * Decodes a single cell of a dictionary-encoded column.
+     */
+    public String string(String column, int row) {
+        int code = codes(column)[row];
+        return code < 0 ? null : column(column).dictionary.get(code);
+    }
+
+    public Object[] objects(String column) {
+        return (Object[]) values(column, Kind.OBJECT);
+    }
+
+    public boolean isNull(String column, int row) {
+        BitSet nulls = column(column).nulls;
+        return nulls != null && nulls.get(row);
+    }
+
+    /**
+     * @return 열의 null 비트맵 복사본 / A copy of the column's null bitmap.
+     */
+    public BitSet nulls(String column) {
+        BitSet nulls = column(column).nulls;
+        return nulls == null ? new BitSet(size) : (BitSet) nulls.clone();
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "ConvertedColumns[rows=" + size + ", columns={", "}]");
+        for (Column column : columns) {
+            joiner.add(column.name + ":" + column.kind.name().toLowerCase());
+        }
+        return joiner.toString();
+    }
+
+    private Object values(String column, Kind kind) {
+        Column target = column(column);
+        requireKind(target, kind);
+        return target.values;
+    }
+
+    private Column column(String name) {
+        Column column = byName.get(name);
+        if (column == null) throw new IllegalArgumentException("[ConvertType] Unknown column: " + name);
+        return column;
+    }
+
+    private static void requireKind(Column column, Kind kind) {
+        if (column.kind != kind) {
+            throw new IllegalArgumentException("[ConvertType] Column '" + column.name + "' is a " + column.kind.name().toLowerCase() + " column, not " + kind.name().toLowerCase());
+        }
+    }
+}
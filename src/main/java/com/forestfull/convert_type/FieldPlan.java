@@ -0,0 +1,49 @@
+package com.forestfull.convert_type;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Type;
+
+/**
+ * 타겟 클래스의 필드 하나에 대한 변환 계획입니다.
+ * <p>
+ * 어노테이션 해석, 소스 필드명, 해석된 제네릭 타입 모델({@link TypeModel})처럼 변환마다 달라지지 않는 정보를 필드별로 한 번만 계산해 둡니다.
+ *
+ * <hr>
+ * <p>
+ * The conversion plan for a single field of a target class.
+ * <p>
+ * Information that never changes between conversions, such as the annotation, the source field name,
+ * and the resolved generic type model ({@link TypeModel}), is computed once per field.
+ *
+ * @author vigfoot
+ */
+final class FieldPlan {
+    final Field field;
+    final String sourceName;
+    final boolean ignored;
+    final Class<?> type;
+    final Type genericType;
+    final TypeModel model;
+
+    FieldPlan(Field field, ObjectMapper mapper) {
+        ConvertField annotation = field.getAnnotation(ConvertField.class);
+
+        this.field = field;
+        this.ignored = annotation != null && annotation.ignore();
+        this.sourceName = annotation != null && !annotation.mapping().isEmpty() ? annotation.mapping() : field.getName();
+        this.type = field.getType();
+        this.genericType = field.getGenericType();
+        this.model = TypeModel.of(genericType, mapper);
+    }
+
+    /**
+     * 이 필드의 제네릭 타입으로 미리 해석된 Jackson 폴백 변환기를 반환합니다. 처음 필요할 때 생성됩니다.
+     * <p>
+     * Returns the Jackson fallback converter pre-resolved for this field's generic type, created on first use.
+     */
+    JacksonFallback fallback() {
+        return model.fallback();
+    }
+}
@@ -0,0 +1,81 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클래스가 불변(Immutable)인지 판별합니다. 불변 객체는 변환/복제 시 새로 만들지 않고 참조를 공유합니다.
+ * <p>
+ * 다음 중 하나에 해당하면 불변으로 판단합니다.
+ * <ul>
+ *     <li>알려진 JDK 불변 타입 (원시 타입과 래퍼, {@link String}, {@link java.math.BigDecimal}, {@code java.time}, {@link UUID}, Enum 등)</li>
+ *     <li>{@link ConvertImmutable}이 붙었거나 {@link ConvertType#registerImmutable(Class[])}로 등록된 클래스</li>
+ *     <li>모든 컴포넌트 타입이 불변인 Record</li>
+ *     <li>모든 인스턴스 필드가 {@code final}이고 그 타입이 모두 불변인 {@code final} 클래스</li>
+ * </ul>
+ *
+ * <hr>
+ * <p>
+ * Classifies whether a class is immutable. Immutable objects are shared by reference instead of being recreated on conversion or cloning.
+ * <p>
+ * A class is immutable if it is a known JDK immutable type, is annotated with {@link ConvertImmutable} or registered through
+ * {@link ConvertType#registerImmutable(Class[])}, is a record whose component types are all immutable,
+ * or is a {@code final} class whose instance fields are all {@code final} and of immutable types.
+ *
+ * @author vigfoot
+ */
+final class Immutables {
+    private static final Set<Class<?>> KNOWN = new HashSet<>(Arrays.<Class<?>>asList(
+            Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, Void.class,
+            String.class, java.math.BigDecimal.class, java.math.BigInteger.class, UUID.class, Locale.class, Currency.class,
+            Class.class, java.net.URI.class, java.util.regex.Pattern.class, OptionalInt.class, OptionalLong.class, OptionalDouble.class));
+
+    private static final Set<Class<?>> REGISTERED = ConcurrentHashMap.newKeySet();
+    private static final Map<Class<?>, Boolean> CACHE = new ConcurrentHashMap<>();
+
+    private Immutables() {
+    }
+
+    static void register(Class<?> clazz) {
+        REGISTERED.add(clazz);
+        // 등록된 타입을 필드로 가진 클래스의 판별 결과가 바뀔 수 있으므로 캐시를 비움
+        CACHE.clear();
+    }
+
+    static boolean isImmutable(Class<?> clazz) {
+        Boolean cached = CACHE.get(clazz);
+        if (cached != null) return cached;
+
+        boolean result = classify(clazz, new HashSet<>());
+        CACHE.put(clazz, result);
+        return result;
+    }
+
+    private static boolean classify(Class<?> clazz, Set<Class<?>> visiting) {
+        Boolean cached = CACHE.get(clazz);
+        if (cached != null) return cached;
+
+        if (clazz.isPrimitive() || clazz.isEnum() || KNOWN.contains(clazz)) return true;
+        if (clazz.isArray() || clazz.isInterface()) return false;
+        if (clazz.getSuperclass() != null && clazz.getSuperclass().isEnum()) return true; // 상수별 몸체가 있는 Enum
+        if (clazz.getName().startsWith("java.time.")) return true;
+        if (REGISTERED.contains(clazz) || clazz.isAnnotationPresent(ConvertImmutable.class)) return true;
+
+        // 순환 참조하는 타입은 불변으로 가정하고 나머지 필드로 판단
+        if (!visiting.add(clazz)) return true;
+
+        boolean isRecord = Access.recordComponents(clazz) != null;
+        if (!isRecord && !Modifier.isFinal(clazz.getModifiers())) return false;
+
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers)) continue;
+                if (!Modifier.isFinal(modifiers) || !classify(field.getType(), visiting)) return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,96 @@
+package com.forestfull.convert_type;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * 네이티브 변환이 불가능한 타입을 Jackson으로 변환하기 위해 미리 해석해 둔 변환기입니다.
+ * <p>
+ * {@link ObjectMapper#convertValue(Object, JavaType)}는 호출마다 타입 해석과 루트 역직렬화기 탐색을 반복하므로,
+ * 필드(또는 타겟 클래스)별로 {@link JavaType}과 {@link ObjectReader}를 한 번만 만들어 재사용합니다.
+ *
+ * <hr>
+ * <p>
+ * A pre-resolved converter used when a type cannot be handled natively and must go through Jackson.
+ * <p>
+ * {@link ObjectMapper#convertValue(Object, JavaType)} resolves the type and looks up the root deserializer on every call,
+ * so the {@link JavaType} and {@link ObjectReader} are built once per field (or target class) and reused.
+ *
+ * @author vigfoot
+ */
+final class JacksonFallback {
+    private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    private final ObjectReader reader;
+    private final JavaType javaType;
+    private final boolean useBigDecimal;
+
+    JacksonFallback(ObjectMapper mapper, Type type) {
+        this.mapper = mapper;
+        this.javaType = mapper.getTypeFactory().constructType(type);
+        this.writer = mapper.writer().without(SerializationFeature.WRAP_ROOT_VALUE);
+        this.reader = mapper.readerFor(javaType);
+        this.useBigDecimal = mapper.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+    }
+
+    /**
+     * {@link ObjectMapper#convertValue(Object, JavaType)}와 동일한 의미로 값을 변환합니다.
+     * <p>
+     * Converts the value with the same semantics as {@link ObjectMapper#convertValue(Object, JavaType)}.
+     *
+     * @throws IllegalArgumentException if Jackson fails to convert the value.
+     */
+    Object convert(Object value) {
+        if (value == null) return null;
+
+        final Object event = Telemetry.beginFallback();
+        try {
+            TokenBuffer buffer = new TokenBuffer(mapper, false);
+            if (useBigDecimal) buffer = buffer.forceUseOfBigDecimal(true);
+            writer.writeValue(buffer, value);
+
+            try (JsonParser parser = buffer.asParser(mapper)) {
+                return reader.readValue(parser);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        } finally {
+            if (event != null) Telemetry.endFallback(event, value, javaType);
+        }
+    }
+
+    /**
+     * 값을 JSON 바이트로 직렬화합니다. 바이너리 인코딩이 직접 표현하지 못하는 타입에 사용됩니다.
+     * <p>
+     * Serializes the value to JSON bytes, used for types the binary encoding cannot represent natively.
+     */
+    byte[] write(Object value) {
+        try {
+            return writer.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * {@link #write(Object)}로 직렬화한 JSON 바이트를 이 타입으로 역직렬화합니다.
+     * <p>
+     * Deserializes JSON bytes written by {@link #write(Object)} into this type.
+     */
+    Object read(byte[] json) {
+        try {
+            return reader.readValue(json);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.forestfull.convert_type;
+
+import java.util.List;
+
+/**
+ * {@link Projection}으로 잘라낸 클래스의 변환 계획입니다.
+ * <p>
+ * 프로젝션에 포함된 필드의 {@link FieldPlan}과, 각 필드 값에 적용할 하위 프로젝션을 같은 순서로 보관합니다.
+ *
+ * <hr>
+ * <p>
+ * The conversion plan of a class trimmed by a {@link Projection}.
+ * <p>
+ * Holds the {@link FieldPlan}s of the projected fields and, in the same order, the sub-projection to apply to each field value.
+ *
+ * @author vigfoot
+ */
+final class ProjectedPlan {
+    final List<FieldPlan> fields;
+    final Projection[] children;
+
+    ProjectedPlan(List<FieldPlan> fields, Projection[] children) {
+        this.fields = fields;
+        this.children = children;
+    }
+}
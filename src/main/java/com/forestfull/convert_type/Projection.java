@@ -0,0 +1,124 @@
+package com.forestfull.convert_type;
+
+import java.util.*;
+
+/**
+ * 변환할 필드만 선택하는 프로젝션(Projection)입니다.
+ * <p>
+ * 점(.)으로 구분된 경로로 중첩 객체의 필드까지 지정할 수 있으며, 경로의 마지막이 객체라면 그 하위 필드 전체가 포함됩니다.
+ * 컬렉션/Map/배열/Optional 필드의 하위 경로는 각 요소에 적용됩니다.
+ * 프로젝션에 포함되지 않은 필드는 읽지도, 프록시를 해제(지연 로딩)하지도 않습니다.
+ * <p>
+ * 같은 경로로 만든 프로젝션은 서로 같으며({@link #equals(Object)}), 클래스별로 잘라낸 변환 계획이 프로젝션 단위로 캐시됩니다.
+ * 자주 쓰는 프로젝션은 상수로 만들어 재사용하는 것을 권장합니다.
+ *
+ * <p><strong>사용 예시:</strong>
+ * <pre>{@code
+ * private static final Projection SUMMARY = Projection.of("id", "name", "orders.total");
+ *
+ * CustomerDto dto = ConvertType.fromFull(customer).to(CustomerDto.class, SUMMARY);
+ * ConvertedMap map = ConvertType.from(customer).toMap(SUMMARY);
+ * }</pre>
+ *
+ * <hr>
+ * <p>
+ * A projection selecting the fields to convert.
+ * <p>
+ * Dotted paths select fields of nested objects; when a path ends at an object, all of its fields are included.
+ * Sub-paths of collection, map, array and optional fields apply to each element.
+ * Fields outside the projection are never read nor un-proxied (lazy loaded).
+ * <p>
+ * Projections built from the same paths are equal ({@link #equals(Object)}), and the trimmed conversion plan of each class is cached per projection.
+ * Keeping frequently used projections as constants is recommended.
+ *
+ * @author vigfoot
+ */
+public final class Projection {
+    /**
+     * 필드명 → 하위 프로젝션. 값이 {@code null}이면 하위 필드 전체를 포함합니다.
+     */
+    private final Map<String, Projection> children;
+    private final int hash;
+
+    private Projection(Map<String, Projection> children) {
+        this.children = children;
+        this.hash = children.hashCode();
+    }
+
+    /**
+     * 지정한 경로의 필드만 포함하는 프로젝션을 생성합니다.
+     * <p>
+     * Creates a projection including only the fields at the given paths.
+     *
+     * @param paths Field paths such as {@code "id"} or {@code "orders.total"}.
+     * @return A new projection.
+     * @throws IllegalArgumentException if a path is {@code null} or empty, or contains an empty segment.
+     */
+    public static Projection of(String... paths) {
+        Map<String, Set<String>> grouped = new LinkedHashMap<>();
+        for (String path : paths) {
+            if (path == null || path.isEmpty() || path.startsWith(".") || path.endsWith(".") || path.contains("..")) {
+                throw new IllegalArgumentException("[ConvertType] Invalid projection path: " + path);
+            }
+
+            int dot = path.indexOf('.');
+            String head = dot < 0 ? path : path.substring(0, dot);
+            Set<String> rest = grouped.get(head);
+            if (dot < 0) {
+                // 하위 경로 없이 지정된 필드는 전체 포함
+                grouped.put(head, null);
+            } else if (rest != null || !grouped.containsKey(head)) {
+                if (rest == null) grouped.put(head, rest = new LinkedHashSet<>());
+                rest.add(path.substring(dot + 1));
+            }
+        }
+
+        Map<String, Projection> children = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : grouped.entrySet()) {
+            Set<String> rest = entry.getValue();
+            children.put(entry.getKey(), rest == null ? null : of(rest.toArray(new String[0])));
+        }
+        return new Projection(children);
+    }
+
+    /**
+     * @return {@code true} if the field is part of this projection.
+     */
+    boolean includes(String field) {
+        return children.containsKey(field);
+    }
+
+    /**
+     * @return The projection to apply to the value of the field, or {@code null} to include all of its fields.
+     */
+    Projection child(String field) {
+        return children.get(field);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Projection)) return false;
+        Projection other = (Projection) o;
+        return hash == other.hash && children.equals(other.children);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "Projection[", "]");
+        appendPaths("", joiner);
+        return joiner.toString();
+    }
+
+    private void appendPaths(String prefix, StringJoiner joiner) {
+        for (Map.Entry<String, Projection> entry : new TreeMap<>(children).entrySet()) {
+            if (entry.getValue() == null) joiner.add(prefix + entry.getKey());
+            else entry.getValue().appendPaths(prefix + entry.getKey() + ".", joiner);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Record 타겟을 정규 생성자(Canonical Constructor)로 생성하기 위한 변환 계획입니다.
+ * <p>
+ * Record의 필드는 생성 후 값을 주입할 수 없으므로, 컴포넌트 순서대로 정렬된 {@link FieldPlan}으로 생성자 인자를 채웁니다.
+ *
+ * <hr>
+ * <p>
+ * The conversion plan for creating a record target through its canonical constructor.
+ * <p>
+ * Record fields cannot be set after construction, so the constructor arguments are filled from {@link FieldPlan}s ordered by component.
+ *
+ * @author vigfoot
+ */
+final class RecordPlan {
+    final Constructor<?> constructor;
+    final FieldPlan[] components;
+
+    RecordPlan(Constructor<?> constructor, FieldPlan[] components) {
+        this.constructor = constructor;
+        this.components = components;
+    }
+}
@@ -0,0 +1,255 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.util.*;
+
+/**
+ * {@link ResultSet}의 컬럼을 타겟 클래스의 필드에 대응시킨 변환 계획입니다.
+ * <p>
+ * 컬럼 라벨과 필드명(또는 {@code @ConvertField(mapping)})을 한 번만 비교하여 컬럼 인덱스 배열로 만들어 두고,
+ * 행마다 필드 타입에 맞는 {@code getInt}/{@code getLong}/{@code getString} 등의 getter로 값을 바로 읽어 중간 {@link Map} 없이 필드에 채웁니다.
+ * 라벨은 대소문자와 밑줄({@code _})을 무시하고 비교하므로 {@code USER_ID} 컬럼은 {@code userId} 필드에 대응됩니다.
+ *
+ * <hr>
+ * <p>
+ * A conversion plan mapping the columns of a {@link ResultSet} to the fields of a target class.
+ * <p>
+ * Column labels are matched against field names (or {@code @ConvertField(mapping)}) once and kept as an array of column indexes.
+ * Each row is then read with the typed getter matching the field type ({@code getInt}, {@code getLong}, {@code getString}, ...) straight into the fields,
+ * without an intermediate {@link Map}. Labels are matched ignoring case and underscores ({@code _}), so a {@code USER_ID} column maps to a {@code userId} field.
+ *
+ * @author vigfoot
+ */
+final class ResultSetPlan {
+    private interface Getter {
+        Object get(ResultSet rs, int column) throws SQLException;
+    }
+
+    private interface Setter {
+        void set(ResultSet rs, int column, Field field, Object target) throws SQLException, IllegalAccessException;
+    }
+
+    /**
+     * 필드 하나를 읽는 방법. 원시 타입은 박싱 없이 {@link Setter}로 바로 설정합니다.
+     * <p>
+     * How to read a single field. Primitives are set through the {@link Setter} without boxing.
+     */
+    private static final class ColumnReader {
+        final Getter getter;
+        final Setter setter;
+
+        ColumnReader(Getter getter, Setter setter) {
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+
+    /**
+     * 결과 집합의 컬럼 구성(라벨과 SQL 타입). 계획 캐시의 키로 쓰이며, 라벨이 같아도 타입이 다르면 다른 계획을 만듭니다.
+     * <p>
+     * The column layout of a result set (labels and SQL types). Used as the plan cache key, so equal labels with different types get different plans.
+     */
+    static final class Columns {
+        final String[] labels;
+        /**
+         * {@link Types}의 상수 / Constants of {@link Types}.
+         */
+        final int[] sqlTypes;
+        private final int hash;
+
+        Columns(String[] labels, int[] sqlTypes) {
+            this.labels = labels;
+            this.sqlTypes = sqlTypes;
+            this.hash = 31 * Arrays.hashCode(labels) + Arrays.hashCode(sqlTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Columns)) return false;
+            Columns other = (Columns) o;
+            return hash == other.hash && Arrays.equals(labels, other.labels) && Arrays.equals(sqlTypes, other.sqlTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private final Class<?> type;
+    private final Constructor<?> constructor;
+    private final RecordPlan record;
+    private final int[] columns;
+    private final Field[] fields;
+    private final ColumnReader[] readers;
+    /**
+     * Record 전용: 대응된 필드별 정규 생성자 인자 위치 / Record only: the canonical constructor argument index of each matched field.
+     */
+    private final int[] arguments;
+
+    private ResultSetPlan(Class<?> type, Constructor<?> constructor, RecordPlan record, List<FieldPlan> matched, List<Integer> columns, Columns layout) {
+        this.type = type;
+        this.constructor = constructor;
+        this.record = record;
+        this.columns = new int[matched.size()];
+        this.fields = new Field[matched.size()];
+        this.readers = new ColumnReader[matched.size()];
+        this.arguments = record == null ? null : new int[matched.size()];
+
+        for (int i = 0; i < fields.length; i++) {
+            FieldPlan plan = matched.get(i);
+            this.columns[i] = columns.get(i);
+            this.fields[i] = plan.field;
+            this.readers[i] = readerFor(plan, layout.labels[columns.get(i) - 1], layout.sqlTypes[columns.get(i) - 1]);
+            if (record != null) this.arguments[i] = Arrays.asList(record.components).indexOf(plan);
+        }
+    }
+
+    /**
+     * @param layout 1번 컬럼부터 순서대로의 컬럼 라벨과 SQL 타입 / The column labels and SQL types, in order starting from column 1.
+     * @throws IllegalArgumentException if the class has neither a no-args constructor nor a canonical record constructor,
+     *                                  or if a time zone-less column is mapped to an {@link Instant} or {@link java.util.Date} field.
+     */
+    static ResultSetPlan of(ConvertTypeEngine engine, Class<?> type, Columns layout) {
+        Constructor<?> constructor = engine.getCachedConstructor(type);
+        RecordPlan record = constructor == null ? engine.getCachedRecordPlan(type) : null;
+        if (constructor == null && record == null) {
+            throw new IllegalArgumentException("[ConvertType] ResultSet conversion requires a class with a no-args constructor or a record: " + type.getName());
+        }
+
+        Map<String, Integer> byLabel = new HashMap<>();
+        for (int i = 0; i < layout.labels.length; i++) {
+            byLabel.putIfAbsent(normalize(layout.labels[i]), i + 1);
+        }
+
+        List<FieldPlan> matched = new ArrayList<>();
+        List<Integer> columns = new ArrayList<>();
+        for (FieldPlan plan : engine.getCachedFieldPlans(type)) {
+            if (plan.ignored) continue;
+            Integer column = byLabel.get(normalize(plan.sourceName));
+            if (column == null) continue; // 대응하는 컬럼이 없으면 기본값 유지
+            matched.add(plan);
+            columns.add(column);
+        }
+        return new ResultSetPlan(type, constructor, record, matched, columns, layout);
+    }
+
+    /**
+     * 현재 행을 새 인스턴스로 읽습니다. / Reads the current row into a new instance.
+     */
+    Object read(ResultSet rs) throws SQLException {
+        try {
+            if (constructor != null) {
+                Object target = constructor.newInstance();
+                for (int i = 0; i < fields.length; i++) {
+                    ColumnReader reader = readers[i];
+                    if (reader.setter != null) reader.setter.set(rs, columns[i], fields[i], target);
+                    else fields[i].set(target, reader.getter.get(rs, columns[i]));
+                }
+                return target;
+            }
+
+            Object[] values = new Object[record.components.length];
+            for (int i = 0; i < fields.length; i++) {
+                values[arguments[i]] = readers[i].getter.get(rs, columns[i]);
+            }
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) values[i] = record.components[i].model.defaultValue;
+            }
+            return record.constructor.newInstance(values);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("[ConvertType] Failed to create instance: " + type.getName(), e);
+        }
+    }
+
+    static String normalize(String label) {
+        StringBuilder builder = new StringBuilder(label.length());
+        for (int i = 0; i < label.length(); i++) {
+            char c = label.charAt(i);
+            if (c != '_') builder.append(Character.toLowerCase(c));
+        }
+        return builder.toString();
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ColumnReader readerFor(FieldPlan plan, String label, int sqlType) {
+        final Class<?> type = plan.type;
+
+        if (type == int.class) return new ColumnReader(nullable(ResultSet::getInt), (rs, c, f, t) -> f.setInt(t, rs.getInt(c)));
+        if (type == long.class) return new ColumnReader(nullable(ResultSet::getLong), (rs, c, f, t) -> f.setLong(t, rs.getLong(c)));
+        if (type == double.class) return new ColumnReader(nullable(ResultSet::getDouble), (rs, c, f, t) -> f.setDouble(t, rs.getDouble(c)));
+        if (type == float.class) return new ColumnReader(nullable(ResultSet::getFloat), (rs, c, f, t) -> f.setFloat(t, rs.getFloat(c)));
+        if (type == short.class) return new ColumnReader(nullable(ResultSet::getShort), (rs, c, f, t) -> f.setShort(t, rs.getShort(c)));
+        if (type == byte.class) return new ColumnReader(nullable(ResultSet::getByte), (rs, c, f, t) -> f.setByte(t, rs.getByte(c)));
+        if (type == boolean.class) return new ColumnReader(nullable(ResultSet::getBoolean), (rs, c, f, t) -> f.setBoolean(t, rs.getBoolean(c)));
+
+        if (type == Integer.class) return new ColumnReader(nullable(ResultSet::getInt), null);
+        if (type == Long.class) return new ColumnReader(nullable(ResultSet::getLong), null);
+        if (type == Double.class) return new ColumnReader(nullable(ResultSet::getDouble), null);
+        if (type == Float.class) return new ColumnReader(nullable(ResultSet::getFloat), null);
+        if (type == Short.class) return new ColumnReader(nullable(ResultSet::getShort), null);
+        if (type == Byte.class) return new ColumnReader(nullable(ResultSet::getByte), null);
+        if (type == Boolean.class) return new ColumnReader(nullable(ResultSet::getBoolean), null);
+        if (type == String.class) return new ColumnReader(ResultSet::getString, null);
+        if (type == BigDecimal.class) return new ColumnReader(ResultSet::getBigDecimal, null);
+        if (type == byte[].class) return new ColumnReader(ResultSet::getBytes, null);
+
+        // 날짜/시간은 JVM 기본 시간대를 거치는 getDate/getTimestamp 대신 JDBC 4.2 getObject(column, type)로 그대로 읽음
+        if (type == LocalDate.class || type == LocalDateTime.class || type == LocalTime.class || type == OffsetDateTime.class) {
+            return new ColumnReader((rs, c) -> rs.getObject(c, type), null);
+        }
+        // 시점(Instant, Date)은 시간대가 있는 컬럼에서만 읽음. 시간대가 없는 컬럼을 시점으로 바꾸려면 시간대를 가정해야 하므로 거부
+        if (type == Instant.class || type == java.util.Date.class) {
+            if (sqlType == Types.TIMESTAMP || sqlType == Types.DATE || sqlType == Types.TIME) {
+                throw new IllegalArgumentException("[ConvertType] Column " + label + " has no time zone and cannot be read into " + type.getSimpleName()
+                        + " field " + plan.field.getName() + " without assuming one. Use a LocalDateTime field or a TIMESTAMP WITH TIME ZONE column.");
+            }
+            final boolean date = type == java.util.Date.class;
+            return new ColumnReader((rs, c) -> {
+                OffsetDateTime value = rs.getObject(c, OffsetDateTime.class);
+                if (value == null) return null;
+                return date ? java.util.Date.from(value.toInstant()) : value.toInstant();
+            }, null);
+        }
+        if (type.isEnum()) {
+            return new ColumnReader((rs, c) -> {
+                String value = rs.getString(c);
+                if (value == null) return null;
+                try {
+                    return Enum.valueOf((Class<Enum>) type, value);
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("[ConvertType] Unknown value '" + value + "' of enum " + type.getName() + " in column "
+                            + rs.getMetaData().getColumnLabel(c) + " for field " + plan.field.getName(), e);
+                }
+            }, null);
+        }
+
+        // 그 외 타입은 드라이버가 돌려준 객체를 필드의 타입 모델로 변환
+        final TypeModel model = plan.model;
+        return new ColumnReader((rs, c) -> {
+            Object value = rs.getObject(c);
+            return value == null || model.instanceType.isInstance(value) ? value : model.fallback().convert(value);
+        }, null);
+    }
+
+    /**
+     * SQL {@code NULL}을 {@code null}로 돌려주는 원시 타입 getter / Wraps a primitive getter so that SQL {@code NULL} yields {@code null}.
+     */
+    private static Getter nullable(Getter getter) {
+        return (rs, column) -> {
+            Object value = getter.get(rs, column);
+            return rs.wasNull() ? null : value;
+        };
+    }
+}
@@ -0,0 +1,64 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.Type;
+
+/**
+ * 변환, Hibernate 초기화, Jackson 대체 변환을 Java Flight Recorder 이벤트로 기록하는 계층입니다.
+ * <p>
+ * 이 파일은 Java 8 기준 구현으로 아무것도 기록하지 않으며, 모든 {@code begin*}은 {@code null}을 반환합니다.
+ * Multi-Release JAR의 {@code META-INF/versions/17}에는 {@code jdk.jfr} 이벤트를 발행하는 구현이 함께 포함됩니다.
+ * 호출부는 {@code begin*}이 {@code null}을 반환하면 이벤트 필드를 계산하지 않으므로, 기록이 꺼져 있을 때의 비용은 분기 하나뿐입니다.
+ *
+ * <hr>
+ * <p>
+ * The layer recording conversions, Hibernate initializations and Jackson fallbacks as Java Flight Recorder events.
+ * <p>
+ * This file is the Java 8 baseline and records nothing; every {@code begin*} returns {@code null}.
+ * The multi-release JAR also ships an implementation under {@code META-INF/versions/17} that commits {@code jdk.jfr} events.
+ * Callers skip computing event fields when {@code begin*} returns {@code null}, so recording costs a single branch while it is off.
+ *
+ * @author vigfoot
+ */
+final class Telemetry {
+
+    private Telemetry() {
+    }
+
+    /**
+     * 최상위 변환 이벤트를 {@code oneIn}번에 한 번만 기록하도록 설정합니다. Java 8에서는 기록할 이벤트가 없습니다.
+     * <p>
+     * Records only one in {@code oneIn} top-level conversion events. Java 8 has no events to record.
+     */
+    static void sampling(int oneIn) {
+    }
+
+    /**
+     * @return 기록 중인 변환 이벤트, 기록하지 않으면 {@code null} / The conversion event being timed, or {@code null} when not recording.
+     */
+    static Object beginConversion() {
+        return null;
+    }
+
+    static void endConversion(Object event, String operation, Object source, Class<?> target, int count, boolean full) {
+    }
+
+    /**
+     * @return 기록 중인 Hibernate 초기화 이벤트, 기록하지 않으면 {@code null} / The Hibernate initialization event being timed, or {@code null} when not recording.
+     */
+    static Object beginInitialization() {
+        return null;
+    }
+
+    static void endInitialization(Object event, String kind, String entity) {
+    }
+
+    /**
+     * @return 기록 중인 Jackson 대체 변환 이벤트, 기록하지 않으면 {@code null} / The Jackson fallback event being timed, or {@code null} when not recording.
+     */
+    static Object beginFallback() {
+        return null;
+    }
+
+    static void endFallback(Object event, Object source, Type target) {
+    }
+}
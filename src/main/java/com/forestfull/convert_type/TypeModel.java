@@ -0,0 +1,169 @@
+package com.forestfull.convert_type;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.lang.reflect.*;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 필드의 제네릭 타입을 재귀적으로 해석해 둔 모델입니다.
+ * <p>
+ * {@code List<List<Dto>>}, {@code Map<String, Set<Dto>>}, {@code Optional<Dto>}, 와일드카드, 제네릭 배열처럼 중첩된 타입도
+ * 필드별로 한 번만 해석하여, 깊이와 관계없이 Jackson 왕복 없이 직접 변환할 수 있게 합니다.
+ *
+ * <hr>
+ * <p>
+ * A recursively resolved model of a field's generic type.
+ * <p>
+ * Nested types such as {@code List<List<Dto>>}, {@code Map<String, Set<Dto>>}, {@code Optional<Dto>}, wildcards and generic arrays
+ * are resolved once per field, so they can be converted natively at any nesting depth without a Jackson round trip.
+ *
+ * @author vigfoot
+ */
+final class TypeModel {
+    enum Kind {
+        /**
+         * 단일 값(POJO, 단순 타입 등) / A single value such as a POJO or a simple type.
+         */
+        OBJECT,
+        /**
+         * {@link Collection} 구현체 / A {@link Collection} implementation.
+         */
+        COLLECTION,
+        /**
+         * 배열 / An array.
+         */
+        ARRAY,
+        /**
+         * {@link Map} 구현체 / A {@link Map} implementation.
+         */
+        MAP,
+        /**
+         * {@link Optional}
+         */
+        OPTIONAL
+    }
+
+    private static final int LIMIT_NESTING = 32;
+
+    final Kind kind;
+    final Type type;
+    final Class<?> rawType;
+    /**
+     * 원시 타입의 경우 래퍼 타입, 그 외에는 {@link #rawType}과 같습니다.
+     * <p>
+     * The wrapper type for primitives, otherwise the same as {@link #rawType}.
+     */
+    final Class<?> instanceType;
+    /**
+     * 원시 타입의 기본값(박싱됨), 그 외에는 {@code null}입니다.
+     * <p>
+     * The boxed default value for primitives, otherwise {@code null}.
+     */
+    final Object defaultValue;
+    /**
+     * 컬렉션/배열/Optional의 요소 타입 또는 Map의 값 타입입니다.
+     * <p>
+     * The element type of a collection, array or optional, or the value type of a map.
+     */
+    final TypeModel element;
+    /**
+     * Map의 키 타입입니다.
+     * <p>
+     * The key type of a map.
+     */
+    final TypeModel key;
+    final ContainerFactory containerFactory;
+    /**
+     * {@link #fallback()}에 사용할 엔진의 {@link ObjectMapper} / The engine's {@link ObjectMapper} used by {@link #fallback()}.
+     */
+    private final ObjectMapper mapper;
+
+    private volatile JacksonFallback fallback;
+
+    private TypeModel(Kind kind, Type type, Class<?> rawType, TypeModel element, TypeModel key, ContainerFactory containerFactory, ObjectMapper mapper) {
+        this.kind = kind;
+        this.type = type;
+        this.rawType = rawType;
+        this.instanceType = rawType.isPrimitive() ? wrap(rawType) : rawType;
+        this.defaultValue = rawType.isPrimitive() ? java.lang.reflect.Array.get(java.lang.reflect.Array.newInstance(rawType, 1), 0) : null;
+        this.element = element;
+        this.key = key;
+        this.containerFactory = containerFactory;
+        this.mapper = mapper;
+    }
+
+    static TypeModel of(Type type, ObjectMapper mapper) {
+        return of(type, mapper, LIMIT_NESTING);
+    }
+
+    private static TypeModel of(Type type, ObjectMapper mapper, int nesting) {
+        // 자기 자신을 참조하는 타입 변수(예: <T extends List<T>>)의 무한 재귀 방지
+        if (nesting <= 0) return of(Object.class, mapper, LIMIT_NESTING);
+        nesting--;
+
+        if (type instanceof WildcardType) {
+            return of(((WildcardType) type).getUpperBounds()[0], mapper, nesting);
+        }
+        if (type instanceof TypeVariable) {
+            Type[] bounds = ((TypeVariable<?>) type).getBounds();
+            return of(bounds.length > 0 ? bounds[0] : Object.class, mapper, nesting);
+        }
+        if (type instanceof GenericArrayType) {
+            TypeModel component = of(((GenericArrayType) type).getGenericComponentType(), mapper, nesting);
+            Class<?> arrayType = Array.newInstance(component.rawType, 0).getClass();
+            return new TypeModel(Kind.ARRAY, type, arrayType, component, null, ContainerFactories.forCollection(arrayType, component.rawType), mapper);
+        }
+
+        Class<?> raw = ContainerFactories.rawClass(type);
+        if (raw == null) return new TypeModel(Kind.OBJECT, Object.class, Object.class, null, null, null, mapper);
+
+        Type[] arguments = type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments() : new Type[0];
+
+        if (raw.isArray()) {
+            TypeModel component = of(raw.getComponentType(), mapper, nesting);
+            return new TypeModel(Kind.ARRAY, type, raw, component, null, ContainerFactories.forCollection(raw, component.rawType), mapper);
+        }
+        if (Collection.class.isAssignableFrom(raw)) {
+            Type elementType = arguments.length > 0 ? arguments[0] : Object.class;
+            return new TypeModel(Kind.COLLECTION, type, raw, of(elementType, mapper, nesting), null, ContainerFactories.forCollection(raw, elementType), mapper);
+        }
+        if (Map.class.isAssignableFrom(raw)) {
+            Type keyType = arguments.length > 1 ? arguments[0] : Object.class;
+            Type valueType = arguments.length > 1 ? arguments[1] : Object.class;
+            return new TypeModel(Kind.MAP, type, raw, of(valueType, mapper, nesting), of(keyType, mapper, nesting), ContainerFactories.forMap(raw, keyType), mapper);
+        }
+        if (raw == Optional.class) {
+            return new TypeModel(Kind.OPTIONAL, type, raw, of(arguments.length > 0 ? arguments[0] : Object.class, mapper, nesting), null, null, mapper);
+        }
+        return new TypeModel(Kind.OBJECT, type, raw, null, null, null, mapper);
+    }
+
+    /**
+     * 이 타입으로 미리 해석된 Jackson 폴백 변환기를 반환합니다. 처음 필요할 때 생성됩니다.
+     * <p>
+     * Returns the Jackson fallback converter pre-resolved for this type, created on first use.
+     */
+    JacksonFallback fallback() {
+        JacksonFallback current = fallback;
+        if (current == null) {
+            current = new JacksonFallback(mapper, type);
+            fallback = current;
+        }
+        return current;
+    }
+
+    private static Class<?> wrap(Class<?> primitive) {
+        if (primitive == int.class) return Integer.class;
+        if (primitive == long.class) return Long.class;
+        if (primitive == double.class) return Double.class;
+        if (primitive == boolean.class) return Boolean.class;
+        if (primitive == float.class) return Float.class;
+        if (primitive == short.class) return Short.class;
+        if (primitive == byte.class) return Byte.class;
+        if (primitive == char.class) return Character.class;
+        return Void.class;
+    }
+}
@@ -0,0 +1,62 @@
+package com.forestfull.convert_type;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.RecordComponent;
+
+/**
+ * 필드/생성자 접근과 인스턴스 생성 방식을 JDK 버전별로 분리한 계층의 Java 17 구현입니다.
+ * <p>
+ * 접근 실패를 예외 대신 {@link AccessibleObject#trySetAccessible()}의 반환값으로 판단하고,
+ * Record는 정규 생성자(Canonical Constructor)로 직접 생성합니다.
+ *
+ * <hr>
+ * <p>
+ * The Java 17 implementation of the layer isolating field/constructor access and instantiation per JDK version.
+ * <p>
+ * Access failures are detected through {@link AccessibleObject#trySetAccessible()} instead of exceptions,
+ * and records are instantiated directly through their canonical constructor.
+ *
+ * @author vigfoot
+ */
+final class Access {
+
+    private Access() {
+    }
+
+    static boolean makeAccessible(AccessibleObject object) {
+        try {
+            return object.trySetAccessible();
+        } catch (SecurityException ignored) {
+            return false;
+        }
+    }
+
+    static String[] recordComponents(Class<?> clazz) {
+        if (!clazz.isRecord()) return null;
+
+        RecordComponent[] components = clazz.getRecordComponents();
+        String[] names = new String[components.length];
+        for (int i = 0; i < components.length; i++) {
+            names[i] = components[i].getName();
+        }
+        return names;
+    }
+
+    static Constructor<?> canonicalConstructor(Class<?> clazz) {
+        if (!clazz.isRecord()) return null;
+
+        RecordComponent[] components = clazz.getRecordComponents();
+        Class<?>[] types = new Class<?>[components.length];
+        for (int i = 0; i < components.length; i++) {
+            types[i] = components[i].getType();
+        }
+
+        try {
+            Constructor<?> constructor = clazz.getDeclaredConstructor(types);
+            return makeAccessible(constructor) ? constructor : null;
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.forestfull.convert_type;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 변환, Hibernate 초기화, Jackson 대체 변환을 Java Flight Recorder 이벤트로 기록하는 계층의 Java 17 구현입니다.
+ * <p>
+ * 모든 이벤트는 기본적으로 비활성화({@code @Enabled(false)})되어 있으며, JFR 설정에서 이벤트 이름으로 켜고 임계값을 조정합니다.
+ * 이벤트가 꺼져 있으면 {@code begin*}은 캐시된 {@link EventType}의 활성화 여부만 확인하고, 이벤트 객체를 할당하지 않은 채 {@code null}을 반환합니다.
+ *
+ * <hr>
+ * <p>
+ * The Java 17 implementation of the layer recording conversions, Hibernate initializations and Jackson fallbacks as Java Flight Recorder events.
+ * <p>
+ * Every event is disabled by default ({@code @Enabled(false)}); enable them and tune their thresholds by event name in the JFR settings.
+ * While an event is disabled, {@code begin*} only checks the cached {@link EventType} and returns {@code null} without allocating an event object.
+ *
+ * @author vigfoot
+ */
+final class Telemetry {
+    private static volatile int sampling = 1;
+
+    private Telemetry() {
+    }
+
+    @Name("com.forestfull.convert_type.Conversion")
+    @Label("Conversion")
+    @Category("ConvertType")
+    @Description("A top-level conversion started from ConvertType.from/fromFull/fromAll")
+    @Enabled(false)
+    @Threshold("0 ms")
+    @StackTrace(false)
+    static final class ConversionEvent extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Source Type")
+        Class<?> sourceType;
+        @Label("Target Type")
+        Class<?> targetType;
+        @Label("Elements")
+        int elements;
+        @Label("Initialize Lazy Proxies")
+        boolean full;
+        @Label("Sampling")
+        @Description("One in this many conversions is recorded")
+        int sampling;
+    }
+
+    @Name("com.forestfull.convert_type.HibernateInitialization")
+    @Label("Hibernate Initialization")
+    @Category("ConvertType")
+    @Description("An uninitialized Hibernate proxy or collection initialized during conversion (database access)")
+    @Enabled(false)
+    @Threshold("0 ms")
+    static final class InitializationEvent extends Event {
+        @Label("Kind")
+        String kind;
+        @Label("Entity")
+        String entity;
+    }
+
+    @Name("com.forestfull.convert_type.JacksonFallback")
+    @Label("Jackson Fallback")
+    @Category("ConvertType")
+    @Description("A value converted through Jackson because it could not be converted natively")
+    @Enabled(false)
+    @Threshold("0 ms")
+    @StackTrace(false)
+    static final class FallbackEvent extends Event {
+        @Label("Source Type")
+        Class<?> sourceType;
+        @Label("Target Type")
+        String targetType;
+    }
+
+    // 비활성 상태에서 이벤트 객체를 할당하지 않도록 활성화 여부는 EventType으로 확인
+    private static final EventType CONVERSION = EventType.getEventType(ConversionEvent.class);
+    private static final EventType INITIALIZATION = EventType.getEventType(InitializationEvent.class);
+    private static final EventType FALLBACK = EventType.getEventType(FallbackEvent.class);
+
+    static void sampling(int oneIn) {
+        sampling = oneIn;
+    }
+
+    static Object beginConversion() {
+        if (!CONVERSION.isEnabled()) return null;
+
+        int oneIn = sampling;
+        if (oneIn > 1 && ThreadLocalRandom.current().nextInt(oneIn) != 0) return null;
+
+        ConversionEvent event = new ConversionEvent();
+        event.sampling = oneIn;
+        event.begin();
+        return event;
+    }
+
+    static void endConversion(Object event, String operation, Object source, Class<?> target, int count, boolean full) {
+        ConversionEvent conversion = (ConversionEvent) event;
+        conversion.end();
+        if (!conversion.shouldCommit()) return;
+
+        conversion.operation = operation;
+        conversion.sourceType = source == null ? null : source.getClass();
+        conversion.targetType = target;
+        conversion.elements = count;
+        conversion.full = full;
+        conversion.commit();
+    }
+
+    static Object beginInitialization() {
+        if (!INITIALIZATION.isEnabled()) return null;
+
+        InitializationEvent event = new InitializationEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endInitialization(Object event, String kind, String entity) {
+        InitializationEvent initialization = (InitializationEvent) event;
+        initialization.end();
+        if (!initialization.shouldCommit()) return;
+
+        initialization.kind = kind;
+        initialization.entity = entity;
+        initialization.commit();
+    }
+
+    static Object beginFallback() {
+        if (!FALLBACK.isEnabled()) return null;
+
+        FallbackEvent event = new FallbackEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endFallback(Object event, Object source, Type target) {
+        FallbackEvent fallback = (FallbackEvent) event;
+        fallback.end();
+        if (!fallback.shouldCommit()) return;
+
+        fallback.sourceType = source == null ? null : source.getClass();
+        fallback.targetType = target.getTypeName();
+        fallback.commit();
+    }
+}
@@ -0,0 +1,121 @@
+package com.forestfull.convert_type;
+
+import com.forestfull.convert_type.ConvertTypeTest.*;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 대표적인 변환 경로의 연산당 할당 바이트를 측정하여, 기록된 예산({@code allocation-budgets.properties})을 넘으면 빌드를 실패시킵니다.
+ * <p>
+ * 현재 스레드의 누적 할당 바이트({@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes})를 충분한 워밍업 이후 측정하며,
+ * 이를 지원하지 않는 JVM에서는 건너뜁니다. 변환 경로를 의도적으로 바꿔 할당이 늘거나 줄었다면 측정값을 보고 예산 파일을 함께 갱신합니다.
+ *
+ * <hr>
+ * <p>
+ * Measures the bytes allocated per operation on representative conversion paths and fails the build when a path exceeds its recorded
+ * budget ({@code allocation-budgets.properties}).
+ * <p>
+ * Measured with the current thread's allocation counter ({@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}) after a warm-up,
+ * and skipped on JVMs that do not support it. When a change intentionally moves allocation, update the budget file from the reported values.
+ */
+class AllocationBudgetTest {
+    private static final int WARMUP = 20_000;
+    private static final int OPERATIONS = 10_000;
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static Properties budgets;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "Thread allocation counters are not available on this JVM");
+
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported on this JVM");
+        threads.setThreadAllocatedMemoryEnabled(true);
+
+        budgets = new Properties();
+        try (InputStream in = AllocationBudgetTest.class.getResourceAsStream("/allocation-budgets.properties")) {
+            budgets.load(in);
+        }
+    }
+
+    @Test
+    @DisplayName("단순 DTO 변환 (to)")
+    void flatConversion() {
+        UserEntity entity = new UserEntity("user1", "password123", "John Doe", 30);
+        assertWithinBudget("to.flat", () -> ConvertType.from(entity).to(UserDto.class));
+    }
+
+    @Test
+    @DisplayName("중첩 객체 변환 (to)")
+    void nestedConversion() {
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+        assertWithinBudget("to.nested", () -> ConvertType.from(order).to(OrderDto.class));
+    }
+
+    @Test
+    @DisplayName("컬렉션 포함 변환 (to)")
+    void collectionConversion() {
+        CategoryEntity category = new CategoryEntity("Electronics", Arrays.asList(
+                new ProductEntity("P001", "Mouse", 20.0),
+                new ProductEntity("P002", "Keyboard", 50.0),
+                new ProductEntity("P003", "Monitor", 300.0)));
+        assertWithinBudget("to.collection", () -> ConvertType.from(category).to(CategoryDto.class));
+    }
+
+    @Test
+    @DisplayName("기존 객체 재사용 (into)")
+    void intoSteadyState() {
+        CategoryEntity category = new CategoryEntity("Electronics", Arrays.asList(
+                new ProductEntity("P001", "Mouse", 20.0),
+                new ProductEntity("P002", "Keyboard", 50.0),
+                new ProductEntity("P003", "Monitor", 300.0)));
+        CategoryDto reusable = new CategoryDto();
+        assertWithinBudget("into.collection", () -> ConvertType.from(category).into(reusable));
+    }
+
+    @Test
+    @DisplayName("Map 변환 (toMap)")
+    void mapConversion() {
+        UserEntity entity = new UserEntity("user1", "password123", "John Doe", 30);
+        assertWithinBudget("toMap.flat", () -> ConvertType.from(entity).toMap());
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩 (toBytes)")
+    void binaryEncoding() {
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+        assertWithinBudget("toBytes.nested", () -> ConvertType.from(order).toBytes());
+    }
+
+    private void assertWithinBudget(String path, Supplier<?> operation) {
+        String budget = budgets.getProperty(path);
+        assertThat(budget).as("No allocation budget recorded for '%s'", path).isNotNull();
+
+        Object sink = null;
+        for (int i = 0; i < WARMUP; i++) sink = operation.get();
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < OPERATIONS; i++) sink = operation.get();
+        final long perOperation = (threads.getThreadAllocatedBytes(threadId) - before) / OPERATIONS;
+
+        System.out.println("[Allocation] " + path + " = " + perOperation + " bytes/op (budget: " + budget + ")");
+        assertThat(sink).isNotNull();
+        assertThat(perOperation)
+                .as("Allocation regression on '%s'", path)
+                .isLessThanOrEqualTo(Long.parseLong(budget.trim()));
+    }
+}
@@ -0,0 +1,211 @@
+package com.forestfull.convert_type;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배포 직후처럼 처음 보는 클래스를 여러 스레드가 동시에 변환할 때의 첫 변환(Cold Start) 지연 시간을 측정합니다.
+ * <p>
+ * 매 라운드마다 새 {@link ClassLoader}로 모델 클래스를 다시 정의하므로, 모든 변환이 캐시되지 않은 메타데이터 경로를 거칩니다.
+ * 기본 빌드에서는 제외되며 {@code mvn test -Pbenchmark}로 실행합니다.
+ *
+ * <hr>
+ * <p>
+ * Measures first-conversion (cold start) latency when many threads convert never-seen classes at once, as right after a deployment.
+ * <p>
+ * Every round redefines the model classes in a fresh {@link ClassLoader}, so every conversion goes through the uncached metadata path.
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+class ColdStartBenchmarkTest {
+    private static final int THREADS = 64;
+    private static final int ROUNDS = 20;
+
+    private void printHeader(String title) {
+        System.out.println("\n==================================================");
+        System.out.println("⏱ Benchmark: " + title);
+        System.out.println("==================================================");
+    }
+
+    @Test
+    @DisplayName("같은 새 클래스를 64개 스레드가 동시에 변환 (Thundering Herd)")
+    void sameClassAcrossThreads() throws Exception {
+        printHeader("Cold start: " + THREADS + " threads x same fresh class, " + ROUNDS + " rounds");
+
+        List<Long> latencies = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            ModelClasses classes = ModelClasses.load();
+            latencies.addAll(runConcurrently(index -> classes));
+        }
+        report(latencies);
+    }
+
+    @Test
+    @DisplayName("스레드마다 서로 다른 새 클래스를 동시에 변환")
+    void distinctClassesAcrossThreads() throws Exception {
+        printHeader("Cold start: " + THREADS + " threads x distinct fresh classes, " + ROUNDS + " rounds");
+
+        List<Long> latencies = new ArrayList<>();
+        for (int round = 0; round < ROUNDS; round++) {
+            List<ModelClasses> classes = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) classes.add(ModelClasses.load());
+            latencies.addAll(runConcurrently(classes::get));
+        }
+        report(latencies);
+    }
+
+    /**
+     * 모든 스레드를 한 지점에서 동시에 출발시켜 스레드별 첫 변환 지연 시간(ns)을 수집합니다.
+     */
+    private List<Long> runConcurrently(java.util.function.IntFunction<ModelClasses> classesOf) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CyclicBarrier start = new CyclicBarrier(THREADS);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                final ModelClasses classes = classesOf.apply(i);
+                futures.add(executor.submit(() -> {
+                    Object source = classes.entity.getDeclaredConstructor().newInstance();
+                    start.await();
+
+                    long begin = System.nanoTime();
+                    Object converted = ConvertType.from(source).to(classes.dto);
+                    long elapsed = System.nanoTime() - begin;
+
+                    assertThat(converted).isNotNull();
+                    assertThat(ConvertType.from(converted).toMap()).containsEntry("name", "cold");
+                    return elapsed;
+                }));
+            }
+
+            List<Long> latencies = new ArrayList<>();
+            for (Future<Long> future : futures) latencies.add(future.get(60, TimeUnit.SECONDS));
+            return latencies;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void report(List<Long> latencies) {
+        Collections.sort(latencies);
+        System.out.printf("[Result]  samples=%d, p50=%.1fus, p90=%.1fus, p99=%.1fus, max=%.1fus%n",
+                latencies.size(),
+                percentile(latencies, 0.50) / 1000.0,
+                percentile(latencies, 0.90) / 1000.0,
+                percentile(latencies, 0.99) / 1000.0,
+                latencies.get(latencies.size() - 1) / 1000.0);
+    }
+
+    private long percentile(List<Long> sorted, double p) {
+        return sorted.get(Math.min(sorted.size() - 1, (int) Math.ceil(p * sorted.size()) - 1));
+    }
+
+    /**
+     * 새 {@link ClassLoader}에 정의된 모델 클래스 묶음 / A set of model classes defined in a fresh {@link ClassLoader}.
+     */
+    private static final class ModelClasses {
+        final Class<?> entity;
+        final Class<?> dto;
+
+        private ModelClasses(Class<?> entity, Class<?> dto) {
+            this.entity = entity;
+            this.dto = dto;
+        }
+
+        static ModelClasses load() throws ClassNotFoundException {
+            ClassLoader loader = new IsolatingClassLoader(ColdStartBenchmarkTest.class.getClassLoader());
+            return new ModelClasses(
+                    Class.forName(BenchEntity.class.getName(), true, loader),
+                    Class.forName(BenchDto.class.getName(), true, loader));
+        }
+    }
+
+    /**
+     * 벤치마크 모델 클래스만 부모에게 위임하지 않고 직접 정의하는 클래스 로더입니다.
+     * <p>
+     * A class loader defining the benchmark model classes itself instead of delegating to its parent.
+     */
+    private static final class IsolatingClassLoader extends ClassLoader {
+        private static final String PREFIX = ColdStartBenchmarkTest.class.getName() + "$Bench";
+
+        IsolatingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PREFIX)) return super.loadClass(name, resolve);
+
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    byte[] bytes = readClass(name);
+                    loaded = defineClass(name, bytes, 0, bytes.length);
+                }
+                if (resolve) resolveClass(loaded);
+                return loaded;
+            }
+        }
+
+        private byte[] readClass(String name) throws ClassNotFoundException {
+            try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                if (in == null) throw new ClassNotFoundException(name);
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                byte[] buffer = new byte[4096];
+                for (int read; (read = in.read(buffer)) > 0; ) out.write(buffer, 0, read);
+                return out.toByteArray();
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+    }
+
+    // --- 벤치마크용 모델 클래스 (매 라운드 새로 정의됨) ---
+
+    public static class BenchEntity {
+        String name = "cold";
+        int count = 3;
+        BenchItem main = new BenchItem();
+        List<BenchItem> items = Arrays.asList(new BenchItem(), new BenchItem());
+        Map<String, BenchItem> byCode = Collections.singletonMap("c", new BenchItem());
+        Optional<BenchItem> featured = Optional.of(new BenchItem());
+
+        public BenchEntity() {}
+    }
+
+    public static class BenchItem {
+        String code = "c";
+        double price = 1.5;
+        Set<String> tags = new TreeSet<>(Arrays.asList("a", "b"));
+
+        public BenchItem() {}
+    }
+
+    public static class BenchDto {
+        String name;
+        int count;
+        BenchItemDto main;
+        List<BenchItemDto> items;
+        Map<String, BenchItemDto> byCode;
+        Optional<BenchItemDto> featured;
+
+        public BenchDto() {}
+    }
+
+    public static class BenchItemDto {
+        String code;
+        double price;
+        Set<String> tags;
+
+        public BenchItemDto() {}
+    }
+}
@@ -172,6 +172,629 @@ class ConvertTypeTest {
         printFooter();
     }
 
+    @Test
+    @DisplayName("중첩 제네릭 필드 Jackson 폴백 변환 테스트")
+    void testNestedGenericFallbackConversion() {
+        printHeader("중첩 제네릭 필드 (Map<String, List<Integer>> -> Map<String, List<Long>>)");
+
+        Map<String, List<Integer>> scores = new LinkedHashMap<>();
+        scores.put("math", Arrays.asList(90, 85));
+        scores.put("art", Collections.singletonList(70));
+        ScoreEntity entity = new ScoreEntity(scores);
+        System.out.println("[Source]  " + entity.scores);
+
+        ScoreDto first = ConvertType.from(entity).to(ScoreDto.class);
+        ScoreDto second = ConvertType.from(entity).to(ScoreDto.class);
+        System.out.println("[Target]  " + first.scores);
+
+        assertThat(first.scores.get("math")).containsExactly(90L, 85L);
+        assertThat(second.scores.get("art")).containsExactly(70L);
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("컬렉션/Map 컨테이너 타입 유지 테스트")
+    void testContainerTypePreservation() {
+        printHeader("컨테이너 타입 유지 (TreeMap, EnumMap, LinkedHashMap, TreeSet)");
+
+        ContainerEntity entity = new ContainerEntity();
+        entity.ordered.put("z", 1);
+        entity.ordered.put("a", 2);
+        entity.sorted.put("b", 2);
+        entity.sorted.put("a", 1);
+        entity.byLevel.put(Level.HIGH, "h");
+        entity.byLevel.put(Level.LOW, "l");
+        entity.names.addAll(Arrays.asList("kim", "lee", "park"));
+        System.out.println("[Source]  " + entity.ordered + ", " + entity.sorted + ", " + entity.byLevel + ", " + entity.names);
+
+        ContainerDto dto = ConvertType.from(entity).to(ContainerDto.class);
+        System.out.println("[Target]  " + dto.ordered + ", " + dto.sorted + ", " + dto.byLevel + ", " + dto.names);
+
+        assertThat(dto.ordered).isInstanceOf(LinkedHashMap.class).containsOnlyKeys("z", "a");
+        assertThat(dto.ordered.keySet()).containsExactly("z", "a");
+        assertThat(dto.sorted).isInstanceOf(TreeMap.class);
+        assertThat(dto.sorted.firstKey()).isEqualTo("a");
+        assertThat(dto.byLevel).isInstanceOf(EnumMap.class).containsEntry(Level.LOW, "l");
+        assertThat(dto.names).isInstanceOf(TreeSet.class).containsExactly("kim", "lee", "park");
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("정렬 컨테이너 요소 타입 변경 시 Comparator 처리 테스트")
+    void testSortedComparatorWithChangedElementType() {
+        printHeader("정렬 컨테이너 Comparator (요소 타입 변경 시 자연 순서)");
+
+        SortedTagEntity entity = new SortedTagEntity();
+        entity.tags.addAll(Arrays.asList(new Tag("b"), new Tag("a"), new Tag("c")));
+        entity.counts.put(new Tag("y"), 2);
+        entity.counts.put(new Tag("x"), 1);
+        entity.names.addAll(Arrays.asList("a", "c", "b"));
+
+        SortedTagDto dto = ConvertType.from(entity).to(SortedTagDto.class);
+        System.out.println("[Target]  " + dto.tags + ", " + dto.counts + ", " + dto.names);
+
+        assertThat(dto).isNotNull();
+        assertThat(dto.tags).extracting(tag -> tag.name).containsExactly("a", "b", "c");
+        assertThat(((TreeSet<TagDto>) dto.tags).comparator()).isNull();
+        assertThat(dto.counts.keySet()).extracting(tag -> tag.name).containsExactly("x", "y");
+        // 요소 타입이 같으면 소스의 Comparator 유지
+        assertThat(dto.names).containsExactly("c", "b", "a");
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("중첩 제네릭 타입 직접 변환 테스트")
+    void testNestedGenericNativeConversion() {
+        printHeader("중첩 제네릭 (List<List<Dto>>, Map<String, Set<Dto>>, Optional<Dto>, Dto[])");
+
+        ProductEntity p1 = new ProductEntity("P001", "Mouse", 20.0);
+        ProductEntity p2 = new ProductEntity("P002", "Keyboard", 50.0);
+        CatalogEntity catalog = new CatalogEntity();
+        catalog.shelves = Arrays.asList(Arrays.asList(p1, p2), Collections.singletonList(p2));
+        catalog.byBrand = new LinkedHashMap<>();
+        catalog.byBrand.put("logi", new LinkedHashSet<>(Arrays.asList(p1, p2)));
+        catalog.featured = Optional.of(p1);
+        catalog.items = Arrays.asList(p1, p2);
+        System.out.println("[Source]  shelves=" + catalog.shelves.size() + ", brands=" + catalog.byBrand.keySet());
+
+        CatalogDto dto = ConvertType.from(catalog).to(CatalogDto.class);
+        System.out.println("[Target]  shelves=" + dto.shelves.size() + ", brands=" + dto.byBrand.keySet() + ", items=" + dto.items.length);
+
+        assertThat(dto.shelves).hasSize(2);
+        assertThat(dto.shelves.get(0).get(1)).isInstanceOf(ProductDto.class);
+        assertThat(dto.shelves.get(0).get(1).productName).isEqualTo("Keyboard");
+        assertThat(dto.byBrand.get("logi")).hasSize(2).allMatch(p -> p instanceof ProductDto);
+        assertThat(dto.featured).isPresent();
+        assertThat(dto.featured.get().productName).isEqualTo("Mouse");
+        assertThat(dto.items).hasSize(2);
+        assertThat(dto.items[1].price).isEqualTo(50.0);
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("기존 객체에 채워 넣기 테스트 (into)")
+    void testIntoExistingTarget() {
+        printHeader("into (기존 타겟 및 중첩 객체 재사용)");
+
+        OrderDto target = new OrderDto();
+        ProductDto existingProduct = new ProductDto();
+        target.product = existingProduct;
+
+        OrderEntity first = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+        OrderEntity second = new OrderEntity("ORD-002", new ProductEntity("P002", "Monitor", 300.0), 1);
+
+        OrderDto result = ConvertType.from(first).into(target);
+        System.out.println("[Target]  " + target.orderId + ", " + target.product.productName);
+        assertThat(result).isSameAs(target);
+        assertThat(target.product).isSameAs(existingProduct);
+        assertThat(target.product.productName).isEqualTo("Laptop");
+
+        ConvertType.from(second).into(target);
+        System.out.println("[Target]  " + target.orderId + ", " + target.product.productName);
+        assertThat(target.orderId).isEqualTo("ORD-002");
+        assertThat(target.product).isSameAs(existingProduct);
+        assertThat(target.product.price).isEqualTo(300.0);
+
+        CategoryDto category = ConvertType.from(new CategoryEntity("A", Arrays.asList(first.product, second.product))).to(CategoryDto.class);
+        ProductDto reusedItem = category.products.get(0);
+        List<ProductDto> reusedList = category.products;
+        ConvertType.from(new CategoryEntity("B", Collections.singletonList(second.product))).into(category);
+        assertThat(category.products).isSameAs(reusedList).hasSize(1);
+        assertThat(category.products.get(0)).isSameAs(reusedItem);
+        assertThat(category.products.get(0).productName).isEqualTo("Monitor");
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("소스와 컨테이너를 공유하는 타겟에 채워 넣기 테스트 (into)")
+    void testIntoTargetSharingSourceContainers() {
+        printHeader("into (소스와 같은 Set/Map/List를 참조하는 타겟)");
+
+        TaggedEntity source = new TaggedEntity();
+        source.tags = new LinkedHashSet<>(Arrays.asList("a", "b"));
+        source.counts = new LinkedHashMap<>();
+        source.counts.put("a", 1);
+        source.names = new ArrayList<>(Arrays.asList("kim", "lee"));
+
+        TaggedEntity target = new TaggedEntity();
+        target.tags = source.tags;
+        target.counts = source.counts;
+        target.names = source.names;
+
+        ConvertType.from(source).into(target);
+        System.out.println("[Source]  " + source.tags + ", " + source.counts + ", " + source.names);
+        System.out.println("[Target]  " + target.tags + ", " + target.counts + ", " + target.names);
+
+        assertThat(source.tags).containsExactly("a", "b");
+        assertThat(source.counts).containsEntry("a", 1).hasSize(1);
+        assertThat(source.names).containsExactly("kim", "lee");
+        assertThat(target.tags).containsExactly("a", "b");
+        assertThat(target.counts).containsEntry("a", 1).hasSize(1);
+        assertThat(target.names).containsExactly("kim", "lee");
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("미리 할당한 배열에 일괄 변환 테스트 (fromAll.into)")
+    void testBatchIntoPreallocatedArray() {
+        printHeader("fromAll.into (객체 풀 재사용)");
+
+        List<UserEntity> entities = Arrays.asList(
+                new UserEntity("u1", "pw", "One", 10),
+                new UserEntity("u2", "pw", "Two", 20));
+        UserDto pooled = new UserDto();
+        UserDto[] pool = {pooled, null, null};
+
+        int filled = ConvertType.fromAll(entities).into(pool);
+        System.out.println("[Pool]    filled=" + filled + ", " + Arrays.toString(pool));
+
+        assertThat(filled).isEqualTo(2);
+        assertThat(pool[0]).isSameAs(pooled);
+        assertThat(pool[0].username).isEqualTo("u1");
+        assertThat(pool[1].age).isEqualTo(20);
+        assertThat(pool[2]).isNull();
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.fromAll(entities).into(new UserDto[1]));
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("깊은 비교 테스트 (diff, deepEquals, deepHash)")
+    void testDeepComparison() {
+        printHeader("diff / deepEquals / deepHash");
+
+        CategoryEntity stored = new CategoryEntity("Electronics", Arrays.asList(new ProductEntity("P001", "Mouse", 20.0)));
+        CategoryEntity same = new CategoryEntity("Electronics", Arrays.asList(new ProductEntity("P001", "Mouse", 20.0)));
+        CategoryEntity changed = new CategoryEntity("Electronics", Arrays.asList(new ProductEntity("P001", "Mouse", 25.0)));
+
+        assertThat(ConvertType.deepEquals(stored, same)).isTrue();
+        assertThat(ConvertType.deepHash(stored)).isEqualTo(ConvertType.deepHash(same));
+        assertThat(ConvertType.deepEquals(stored, changed)).isFalse();
+        assertThat(ConvertType.diff(stored, same)).isEmpty();
+        assertThat(ConvertType.diff(stored, changed)).containsExactly("products");
+
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+        OrderEntity updated = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1400.0), 3);
+        List<String> differences = ConvertType.diff(order, updated);
+        System.out.println("[Diff]    " + differences);
+        assertThat(differences).containsExactly("product.price", "quantity");
+
+        UserDtoIgnored left = new UserDtoIgnored();
+        left.username = "a";
+        left.fullName = "Same";
+        UserDtoIgnored right = new UserDtoIgnored();
+        right.username = "b";
+        right.fullName = "Same";
+        assertThat(ConvertType.deepEquals(left, right)).isTrue();
+
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.diff(order, stored));
+        assertThat(ConvertType.diff(null, order)).containsExactly("");
+
+        // Set 요소는 사용자 equals가 아니라 deepEquals로 비교하여 deepHash와 일관성 유지
+        Set<KeyedItem> keyedA = new HashSet<>(Collections.singletonList(new KeyedItem("1", "x")));
+        Set<KeyedItem> keyedB = new HashSet<>(Collections.singletonList(new KeyedItem("1", "y")));
+        assertThat(ConvertType.deepEquals(keyedA, keyedB)).isFalse();
+
+        Set<Tag> tagsA = new HashSet<>(Arrays.asList(new Tag("a"), new Tag("b")));
+        Set<Tag> tagsB = new LinkedHashSet<>(Arrays.asList(new Tag("b"), new Tag("a")));
+        assertThat(ConvertType.deepEquals(tagsA, tagsB)).isTrue();
+        assertThat(ConvertType.deepHash(tagsA)).isEqualTo(ConvertType.deepHash(tagsB));
+        Set<Tag> duplicated = new HashSet<>(Arrays.asList(new Tag("a"), new Tag("a")));
+        assertThat(ConvertType.deepEquals(duplicated, tagsA)).isFalse();
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("불변 객체 공유 테스트")
+    void testImmutableSharing() {
+        printHeader("불변 객체 공유 (복사 없이 참조 공유)");
+
+        java.time.LocalDate date = java.time.LocalDate.of(2025, 1, 1);
+        Money price = new Money(1000L, "KRW");
+        Tag tag = new Tag("sale");
+        ProductEntity mutable = new ProductEntity("P001", "Mouse", 20.0);
+
+        ValueHolderEntity entity = new ValueHolderEntity();
+        entity.dates = Arrays.asList(date);
+        entity.prices = Arrays.asList(price);
+        entity.tags = Arrays.asList(tag);
+        entity.products = Arrays.asList(mutable);
+
+        ValueHolderEntity copy = ConvertType.from(entity).to(ValueHolderEntity.class);
+        System.out.println("[Target]  date shared=" + (copy.dates.get(0) == date) + ", money shared=" + (copy.prices.get(0) == price));
+
+        assertThat(copy.dates).isNotSameAs(entity.dates);
+        assertThat(copy.dates.get(0)).isSameAs(date);
+        assertThat(copy.prices.get(0)).isSameAs(price);
+        assertThat(copy.tags.get(0)).isNotSameAs(tag);
+        assertThat(copy.products.get(0)).isNotSameAs(mutable);
+        assertThat(ConvertType.from(date).to(java.time.LocalDate.class)).isSameAs(date);
+
+        ConvertType.registerImmutable(Tag.class);
+        assertThat(ConvertType.from(entity).to(ValueHolderEntity.class).tags.get(0)).isSameAs(tag);
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("필드 프로젝션 테스트")
+    void testProjection() {
+        printHeader("Projection (선택한 필드만 변환)");
+
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+        Projection projection = Projection.of("orderId", "product.price");
+        assertThat(projection).isEqualTo(Projection.of("product.price", "orderId"));
+
+        OrderDto dto = ConvertType.from(order).to(OrderDto.class, projection);
+        System.out.println("[Target]  orderId=" + dto.orderId + ", price=" + dto.product.price + ", name=" + dto.product.productName);
+        assertThat(dto.orderId).isEqualTo("ORD-001");
+        assertThat(dto.product.price).isEqualTo(1500.0);
+        assertThat(dto.product.productName).isNull();
+        assertThat(dto.quantity).isZero();
+
+        OrderEntity copy = ConvertType.from(order).to(OrderEntity.class, Projection.of("product"));
+        assertThat(copy.product.productName).isEqualTo("Laptop");
+        assertThat(copy.orderId).isNull();
+
+        CategoryEntity category = new CategoryEntity("Electronics", Arrays.asList(new ProductEntity("P001", "Mouse", 20.0), new ProductEntity("P002", "Keyboard", 50.0)));
+        ConvertedMap map = ConvertType.from(category).toMap(Projection.of("products.productName"));
+        System.out.println("[Map]     " + map);
+        assertThat(map).containsOnlyKeys("products");
+        @SuppressWarnings("unchecked")
+        List<ConvertedMap> products = (List<ConvertedMap>) map.get("products");
+        assertThat(products).hasSize(2);
+        assertThat(products.get(1)).containsOnlyKeys("productName").containsEntry("productName", "Keyboard");
+
+        assertThrows(IllegalArgumentException.class, () -> Projection.of("orders..total"));
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("바이너리 인코딩 테스트")
+    void testBinaryRoundTrip() {
+        printHeader("toBytes / fromBytes (스키마 기반 바이너리)");
+
+        CatalogEntity catalog = new CatalogEntity();
+        catalog.shelves = Arrays.asList(Arrays.asList(new ProductEntity("P001", "Mouse", 20.0), null));
+        catalog.byBrand = new LinkedHashMap<>();
+        catalog.byBrand.put("acme", new LinkedHashSet<>(Arrays.asList(new ProductEntity("P002", "Keyboard", 50.0))));
+        catalog.featured = Optional.of(new ProductEntity("P003", "Monitor", 300.0));
+
+        byte[] bytes = ConvertType.from(catalog).toBytes();
+        System.out.println("[Binary]  " + bytes.length + " bytes (JSON: " + ConvertType.from(catalog).toMap().toJsonString().length() + " chars)");
+
+        CatalogEntity restored = ConvertType.fromBytes(bytes, CatalogEntity.class);
+        assertThat(ConvertType.deepEquals(catalog, restored)).isTrue();
+        assertThat(restored.shelves.get(0).get(1)).isNull();
+        assertThat(restored.items).isNull();
+        assertThat(restored.featured.get().productName).isEqualTo("Monitor");
+
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), -2);
+        java.nio.ByteBuffer offHeap = java.nio.ByteBuffer.allocateDirect(256);
+        ConvertType.from(order).toBytes(offHeap);
+        ConvertType.from(order).toBytes(offHeap);
+        offHeap.flip();
+        assertThat(ConvertType.deepEquals(order, ConvertType.fromBytes(offHeap, OrderEntity.class))).isTrue();
+        assertThat(ConvertType.fromBytes(offHeap, OrderEntity.class).quantity).isEqualTo(-2);
+        assertThat(offHeap.hasRemaining()).isFalse();
+
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.fromBytes(bytes, OrderEntity.class));
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.fromBytes(Arrays.copyOf(bytes, bytes.length / 2), CatalogEntity.class));
+        assertThrows(java.nio.BufferOverflowException.class, () -> ConvertType.from(catalog).toBytes(java.nio.ByteBuffer.allocate(8)));
+
+        // 선언 타입의 레이아웃으로 기록할 수 없는 값은 정보를 잃지 않도록 거부
+        OrderEntity subclassed = new OrderEntity("ORD-003", new DiscountedProductEntity(), 1);
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.from(subclassed).toBytes());
+        DatedEntity dated = new DatedEntity();
+        dated.createdAt = new Date(1_700_000_000_123L);
+        assertThat(ConvertType.fromBytes(ConvertType.from(dated).toBytes(), DatedEntity.class).createdAt).isEqualTo(dated.createdAt);
+        java.sql.Timestamp timestamp = new java.sql.Timestamp(1_700_000_000_000L);
+        timestamp.setNanos(123_456_789);
+        dated.createdAt = timestamp;
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.from(dated).toBytes());
+        SortedTagEntity sorted = new SortedTagEntity();
+        sorted.names.add("a");
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.from(sorted).toBytes());
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("변환 결과 캐시 테스트")
+    void testConversionCache() {
+        printHeader("ConversionCache (LRU/LFU, 버전, 방어적 복사)");
+
+        ConversionCache cache = ConversionCache.builder().maximumSize(2).build();
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+
+        OrderEntity first = ConvertType.from(order).to(OrderEntity.class, cache);
+        OrderEntity second = ConvertType.from(order).to(OrderEntity.class, cache);
+        System.out.println("[Cache]   " + cache);
+        assertThat(cache.hitCount()).isEqualTo(1);
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.product).isNotSameAs(first.product).isNotSameAs(order.product);
+        assertThat(ConvertType.deepEquals(first, second)).isTrue();
+
+        Money price = new Money(1000L, "KRW");
+        assertThat(ConvertType.from(price).to(Money.class, cache)).isSameAs(price);
+        assertThat(cache.size()).isEqualTo(1);
+        ConvertType.from(new OrderEntity()).to(OrderDto.class, cache);
+        ConvertType.from(new OrderEntity()).to(OrderDto.class, cache);
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1);
+
+        // 소스 자신이 결과인 항목은 약한 키를 강하게 붙잡으므로 저장하지 않음
+        ConversionCache weak = ConversionCache.builder().weakKeys().build();
+        assertThat(ConvertType.from(price).to(Money.class, weak)).isSameAs(price);
+        assertThat(weak.size()).isZero();
+
+        ConversionCache lfu = ConversionCache.builder()
+                .maximumSize(2)
+                .eviction(ConversionCache.Eviction.LFU)
+                .keyBy(source -> ((ProductEntity) source).productId)
+                .version(source -> ((ProductEntity) source).price)
+                .build();
+        ProductEntity mouse = new ProductEntity("P001", "Mouse", 20.0);
+        ConvertType.from(mouse).to(ProductDto.class, lfu);
+        ConvertType.from(new ProductEntity("P001", "Mouse", 20.0)).to(ProductDto.class, lfu);
+        ConvertType.from(new ProductEntity("P002", "Keyboard", 50.0)).to(ProductDto.class, lfu);
+        ConvertType.from(new ProductEntity("P003", "Monitor", 300.0)).to(ProductDto.class, lfu);
+        assertThat(lfu.hitCount()).isEqualTo(1);
+        assertThat(ConvertType.from(mouse).to(ProductDto.class, lfu).price).isEqualTo(20.0);
+        assertThat(lfu.hitCount()).isEqualTo(2);
+
+        mouse.price = 25.0;
+        assertThat(ConvertType.from(mouse).to(ProductDto.class, lfu).price).isEqualTo(25.0);
+        assertThat(lfu.hitCount()).isEqualTo(2);
+
+        lfu.invalidate(mouse);
+        assertThat(lfu.size()).isEqualTo(1);
+
+        assertThrows(IllegalArgumentException.class, () -> ConversionCache.builder().weakKeys().keyBy(source -> source).build());
+
+        // 복사 생략 옵션과 엔진별 키
+        ConversionCache shared = ConversionCache.builder().shareResults().build();
+        OrderDto sharedFirst = ConvertType.from(order).to(OrderDto.class, shared);
+        assertThat(ConvertType.from(order).to(OrderDto.class, shared)).isSameAs(sharedFirst);
+        ConvertTypeEngine other = ConvertTypeEngine.builder().build();
+        assertThat(other.from(order).to(OrderDto.class, shared)).isNotSameAs(sharedFirst);
+        assertThat(shared.missCount()).isEqualTo(2);
+
+        // 세그먼트 단위 잠금에서 동시 접근
+        ConversionCache concurrent = ConversionCache.builder().maximumSize(256).concurrencyLevel(8).build();
+        List<ProductEntity> products = new ArrayList<>();
+        for (int i = 0; i < 512; i++) products.add(new ProductEntity("P" + i, "Item" + i, i));
+        products.parallelStream().forEach(product -> {
+            for (int round = 0; round < 4; round++) {
+                assertThat(ConvertType.from(product).to(ProductDto.class, concurrent).productName).isEqualTo(product.productName);
+            }
+        });
+        System.out.println("[Cache]   " + concurrent);
+        assertThat(concurrent.size()).isLessThanOrEqualTo(256);
+        assertThat(concurrent.hitCount() + concurrent.missCount()).isEqualTo(2048);
+        assertThrows(IllegalArgumentException.class, () -> ConversionCache.builder().concurrencyLevel(0));
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("JDBC ResultSet -> DTO 스트리밍 변환 테스트")
+    void testResultSetStreaming() throws Exception {
+        printHeader("fromResultSet (컬럼 인덱스 계획, 중간 Map 없음)");
+
+        try (java.sql.Connection connection = java.sql.DriverManager.getConnection("jdbc:h2:mem:convert_type");
+             java.sql.Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE member (member_id BIGINT, user_name VARCHAR(50), age INT, score DECIMAL(10, 2), joined DATE, level VARCHAR(10))");
+            statement.execute("INSERT INTO member VALUES (1, 'kim', 30, 12.50, DATE '2025-01-01', 'HIGH'), (2, 'lee', NULL, NULL, NULL, NULL)");
+
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT * FROM member ORDER BY member_id")) {
+                List<MemberRow> rows = ConvertType.fromResultSet(rs).toList(MemberRow.class);
+                System.out.println("[Rows]    " + rows.size() + " rows, first: " + rows.get(0).name + "/" + rows.get(0).joined);
+
+                assertThat(rows).hasSize(2);
+                assertThat(rows.get(0).memberId).isEqualTo(1L);
+                assertThat(rows.get(0).name).isEqualTo("kim");
+                assertThat(rows.get(0).age).isEqualTo(30);
+                assertThat(rows.get(0).score).isEqualByComparingTo("12.50");
+                assertThat(rows.get(0).joined).isEqualTo(java.time.LocalDate.of(2025, 1, 1));
+                assertThat(rows.get(0).level).isEqualTo(Level.HIGH);
+                assertThat(rows.get(1).age).isNull();
+                assertThat(rows.get(1).joined).isNull();
+            }
+
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT member_id, age FROM member ORDER BY member_id")) {
+                long total = ConvertType.fromResultSet(rs).stream(MemberRow.class).mapToLong(row -> row.memberId).sum();
+                assertThat(total).isEqualTo(3L);
+            }
+
+            statement.execute("INSERT INTO member VALUES (3, 'park', 40, NULL, NULL, 'MEDIUM')");
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT * FROM member WHERE member_id = 3")) {
+                IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> ConvertType.fromResultSet(rs).toList(MemberRow.class));
+                System.out.println("[Error]   " + error.getMessage());
+                assertThat(error.getMessage()).contains("[ConvertType]", "MEDIUM", "LEVEL", "level");
+            }
+            statement.execute("DROP TABLE member");
+
+            // 날짜/시간은 JVM 기본 시간대와 무관하게 JDBC 4.2 getObject로 읽음
+            statement.execute("CREATE TABLE event (happened_at TIMESTAMP, stamp TIMESTAMP WITH TIME ZONE, starts TIME)");
+            statement.execute("INSERT INTO event VALUES (TIMESTAMP '2025-03-30 02:30:00', TIMESTAMP WITH TIME ZONE '2025-01-01 10:00:00+09:00', TIME '09:15:00')");
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT * FROM event")) {
+                EventRow row = ConvertType.fromResultSet(rs).toList(EventRow.class).get(0);
+                assertThat(row.happenedAt).isEqualTo(java.time.LocalDateTime.of(2025, 3, 30, 2, 30));
+                assertThat(row.stamp).isEqualTo(java.time.Instant.parse("2025-01-01T01:00:00Z"));
+                assertThat(row.starts).isEqualTo(java.time.LocalTime.of(9, 15));
+            }
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT stamp AS happened, stamp AS logged FROM event")) {
+                StampRow row = ConvertType.fromResultSet(rs).toList(StampRow.class).get(0);
+                assertThat(row.happened).isEqualTo(java.time.Instant.parse("2025-01-01T01:00:00Z"));
+                assertThat(row.logged).isEqualTo(Date.from(row.happened)).isExactlyInstanceOf(Date.class);
+            }
+            // 시간대가 없는 TIMESTAMP는 시간대를 가정해야 시점이 되므로, 같은 라벨이라도 컬럼 타입별 계획에서 거부
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT happened_at AS happened, stamp AS logged FROM event")) {
+                IllegalArgumentException error = assertThrows(IllegalArgumentException.class, () -> ConvertType.fromResultSet(rs).toList(StampRow.class));
+                System.out.println("[Error]   " + error.getMessage());
+                assertThat(error.getMessage()).contains("[ConvertType]", "HAPPENED", "happened");
+            }
+            try (java.sql.ResultSet rs = statement.executeQuery("SELECT stamp AS happened, happened_at AS logged FROM event")) {
+                assertThrows(IllegalArgumentException.class, () -> ConvertType.fromResultSet(rs).toList(StampRow.class));
+            }
+            statement.execute("DROP TABLE event");
+        }
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("리스트 -> 열 지향 배열(toColumns) 변환 테스트")
+    void testColumnarConversion() {
+        printHeader("toColumns (필드별 원시 배열 + 사전 인코딩)");
+
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("memberId", i + 1);
+            row.put("user_name", i % 2 == 0 ? "kim" : "lee");
+            row.put("age", i == 3 ? null : 20 + i);
+            row.put("score", i + ".5");
+            row.put("level", i == 0 ? null : "HIGH");
+            rows.add(row);
+        }
+        rows.add(null);
+
+        ConvertedColumns columns = ConvertType.fromAll(rows).toColumns(MemberRow.class);
+        System.out.println("[Columns] " + columns);
+
+        assertThat(columns.size()).isEqualTo(5);
+        assertThat(columns.names()).containsExactly("memberId", "name", "age", "score", "joined", "level");
+        assertThat(columns.longs("memberId")).containsExactly(1L, 2L, 3L, 4L, 0L);
+        assertThat(columns.ints("age")).containsExactly(20, 21, 22, 0, 0);
+        assertThat(columns.isNull("age", 3)).isTrue();
+        assertThat(columns.isNull("age", 2)).isFalse();
+        assertThat(columns.nulls("memberId").cardinality()).isEqualTo(1);
+
+        assertThat(columns.dictionary("name")).containsExactly("kim", "lee");
+        assertThat(columns.codes("name")).containsExactly(0, 1, 0, 1, -1);
+        assertThat(columns.string("name", 1)).isEqualTo("lee");
+        assertThat(columns.dictionary("level")).containsExactly("HIGH");
+        assertThat(columns.codes("level")).containsExactly(-1, 0, 0, 0, -1);
+        assertThat(columns.objects("score")[2]).isEqualTo(new java.math.BigDecimal("2.5"));
+
+        assertThrows(IllegalArgumentException.class, () -> columns.doubles("age"));
+        assertThrows(IllegalArgumentException.class, () -> columns.ints("unknown"));
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("JFR 이벤트 샘플링 설정 테스트")
+    void testConversionEventSampling() {
+        printHeader("sampleConversionEvents (JFR, 기본 비활성화)");
+
+        assertThrows(IllegalArgumentException.class, () -> ConvertType.sampleConversionEvents(0));
+
+        // 이벤트가 꺼져 있거나 샘플링에서 제외되어도 변환 결과는 같아야 함
+        ConvertType.sampleConversionEvents(1000);
+        try {
+            UserDto dto = ConvertType.from(new UserEntity("kim", "pw", "Kim", 30)).to(UserDto.class);
+            List<UserDto> list = ConvertType.fromAll(Collections.singletonList(new UserEntity("lee", "pw", "Lee", 20))).to(UserDto.class);
+            System.out.println("[Result]  " + dto + ", " + list);
+
+            assertThat(dto.username).isEqualTo("kim");
+            assertThat(list).extracting(user -> user.username).containsExactly("lee");
+        } finally {
+            ConvertType.sampleConversionEvents(1);
+        }
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("독립 설정 엔진(ConvertTypeEngine) 테스트")
+    void testEngine() {
+        printHeader("ConvertTypeEngine (깊이, 변환기, 독립 캐시)");
+
+        ConvertTypeEngine engine = ConvertTypeEngine.builder()
+                .maxDepth(2)
+                .converter(Level.class, String.class, level -> level.name().toLowerCase())
+                .converter(String.class, Level.class, text -> Level.valueOf(text.toUpperCase()))
+                .build();
+
+        Node chain = new Node("a");
+        chain.next = new Node("b");
+        chain.next.next = new Node("c");
+        NodeDto shallow = engine.from(chain).to(NodeDto.class);
+        NodeDto deep = ConvertType.from(chain).to(NodeDto.class);
+        System.out.println("[Depth]   engine: " + shallow.name + " -> " + shallow.next.name + " -> " + shallow.next.next + ", default: " + deep.next.next.name);
+
+        assertThat(shallow.next.name).isEqualTo("b");
+        assertThat(shallow.next.next).isNull();
+        assertThat(deep.next.next.name).isEqualTo("c");
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("memberId", 1L);
+        row.put("level", "high");
+        MemberRow member = engine.from(row).to(MemberRow.class);
+        String text = engine.from(Level.LOW).to(String.class);
+        System.out.println("[Convert] " + member.level + ", " + text);
+
+        assertThat(member.level).isEqualTo(Level.HIGH);
+        assertThat(text).isEqualTo("low");
+        assertThat(engine.fromBytes(engine.from(member).toBytes(), MemberRow.class).level).isEqualTo(Level.HIGH);
+
+        engine.clearCaches();
+        assertThat(engine.fromAll(Collections.singletonList(row)).to(MemberRow.class)).extracting(m -> m.level).containsExactly(Level.HIGH);
+        assertThat(ConvertTypeEngine.defaultEngine().from(row).to(MemberRow.class).memberId).isEqualTo(1L);
+
+        assertThrows(IllegalArgumentException.class, () -> ConvertTypeEngine.builder().maxDepth(0));
+        assertThrows(IllegalArgumentException.class, () -> ConvertTypeEngine.builder().maximumPlansPerClass(0));
+
+        // 인터페이스로 등록한 변환기와 클래스당 계획 수 제한
+        ConvertTypeEngine bounded = ConvertTypeEngine.builder()
+                .maximumPlansPerClass(1)
+                .converter(CharSequence.class, Level.class, chars -> Level.valueOf(chars.toString().toUpperCase()))
+                .build();
+        Map<String, Object> builderRow = new HashMap<>();
+        builderRow.put("level", new StringBuilder("low"));
+        assertThat(bounded.from(builderRow).to(MemberRow.class).level).isEqualTo(Level.LOW);
+
+        OrderEntity order = new OrderEntity("ORD-001", new ProductEntity("P001", "Laptop", 1500.0), 2);
+        for (int round = 0; round < 3; round++) {
+            assertThat(bounded.from(order).to(OrderEntity.class, Projection.of("orderId")).quantity).isZero();
+            assertThat(bounded.from(order).to(OrderEntity.class, Projection.of("quantity")).quantity).isEqualTo(2);
+        }
+
+        printFooter();
+    }
+
     // --- 테스트용 모델 클래스 (필수) ---
 
     static class UserEntity {
@@ -193,6 +816,14 @@ class ConvertTypeTest {
         public ProductEntity(String id, String n, double p) { this.productId = id; this.productName = n; this.price = p; }
     }
 
+    static class DiscountedProductEntity extends ProductEntity {
+        double discount;
+    }
+
+    static class DatedEntity {
+        Date createdAt;
+    }
+
     static class ProductDto {
         String productName; double price;
         public ProductDto() {}
@@ -220,6 +851,110 @@ class ConvertTypeTest {
         public CategoryDto() {}
     }
 
+    static class ScoreEntity {
+        Map<String, List<Integer>> scores;
+        public ScoreEntity() {}
+        public ScoreEntity(Map<String, List<Integer>> s) { this.scores = s; }
+    }
+
+    static class ScoreDto {
+        Map<String, List<Long>> scores;
+        public ScoreDto() {}
+    }
+
+    static class CatalogEntity {
+        List<List<ProductEntity>> shelves;
+        Map<String, Set<ProductEntity>> byBrand;
+        Optional<ProductEntity> featured;
+        List<ProductEntity> items;
+    }
+
+    static class CatalogDto {
+        List<? extends List<ProductDto>> shelves;
+        Map<String, Set<ProductDto>> byBrand;
+        Optional<ProductDto> featured;
+        ProductDto[] items;
+    }
+
+    static final class Money {
+        private final long amount;
+        private final String currency;
+        Money(long amount, String currency) { this.amount = amount; this.currency = currency; }
+    }
+
+    static class Tag {
+        String name;
+        public Tag() {}
+        Tag(String name) { this.name = name; }
+    }
+
+    static class KeyedItem {
+        String id; String label;
+        KeyedItem(String id, String label) { this.id = id; this.label = label; }
+        @Override public boolean equals(Object o) { return o instanceof KeyedItem && ((KeyedItem) o).id.equals(id); }
+        @Override public int hashCode() { return id.hashCode(); }
+    }
+
+    static class ValueHolderEntity {
+        List<java.time.LocalDate> dates;
+        List<Money> prices;
+        List<Tag> tags;
+        List<ProductEntity> products;
+    }
+
+    enum Level { LOW, HIGH }
+
+    static class ContainerEntity {
+        Map<String, Integer> ordered = new LinkedHashMap<>();
+        SortedMap<String, Integer> sorted = new TreeMap<>();
+        Map<Level, String> byLevel = new EnumMap<>(Level.class);
+        NavigableSet<String> names = new TreeSet<>();
+    }
+
+    static class ContainerDto {
+        Map<String, Integer> ordered;
+        SortedMap<String, Integer> sorted;
+        Map<Level, String> byLevel;
+        NavigableSet<String> names;
+    }
+
+    static class TaggedEntity {
+        Set<String> tags; Map<String, Integer> counts; List<String> names;
+    }
+
+    static class SortedTagEntity {
+        SortedSet<Tag> tags = new TreeSet<>(Comparator.comparing((Tag tag) -> tag.name).reversed());
+        SortedMap<Tag, Integer> counts = new TreeMap<>(Comparator.comparing((Tag tag) -> tag.name).reversed());
+        SortedSet<String> names = new TreeSet<>(Comparator.reverseOrder());
+    }
+
+    static class TagDto implements Comparable<TagDto> {
+        String name;
+        @Override public int compareTo(TagDto other) { return name.compareTo(other.name); }
+        @Override public String toString() { return name; }
+    }
+
+    static class SortedTagDto {
+        SortedSet<TagDto> tags;
+        SortedMap<TagDto, Integer> counts;
+        SortedSet<String> names;
+    }
+
+    static class MemberRow {
+        long memberId;
+        @ConvertField(mapping = "user_name") String name;
+        Integer age; java.math.BigDecimal score; java.time.LocalDate joined; Level level;
+        public MemberRow() {}
+    }
+
+    static class EventRow {
+        java.time.LocalDateTime happenedAt; java.time.Instant stamp; java.time.LocalTime starts;
+    }
+
+    static class StampRow {
+        java.time.Instant happened; Date logged;
+    }
+
     static class Parent { String parentField; }
     static class ChildEntity extends Parent { String childField; }
     static class ChildDto { String parentField; String childField; }
@@ -0,0 +1,207 @@
+package com.forestfull.convert_type;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * META-INF/versions/17 클래스(Access, Telemetry)를 우선 로드하는 클래스패스에서 실행되는 JDK 17 전용 테스트입니다.
+ * <hr>
+ * JDK 17 only tests, run on a class path that loads the META-INF/versions/17 classes (Access, Telemetry) first.
+ */
+class MultiReleaseTest {
+
+    private void printHeader(String title) {
+        System.out.println("\n==================================================");
+        System.out.println("🚀 Test: " + title);
+        System.out.println("==================================================");
+    }
+
+    private void printFooter() {
+        System.out.println("✅ Status: PASSED");
+        System.out.println("==================================================\n");
+    }
+
+    @Test
+    @DisplayName("Java 17 버전 클래스 로드 테스트")
+    void testVersionedClassesAreLoaded() {
+        printHeader("META-INF/versions/17 (Access, Telemetry)");
+
+        String access = Access.class.getProtectionDomain().getCodeSource().getLocation().toString();
+        String telemetry = Telemetry.class.getProtectionDomain().getCodeSource().getLocation().toString();
+        System.out.println("[Access]    " + access);
+        System.out.println("[Telemetry] " + telemetry);
+
+        assertThat(access).contains("META-INF/versions/17");
+        assertThat(telemetry).contains("META-INF/versions/17");
+        assertThat(Access.recordComponents(UserRecord.class)).containsExactly("username", "fullName", "age");
+        assertThat(Access.recordComponents(UserEntity.class)).isNull();
+        assertThat(Access.canonicalConstructor(UserRecord.class)).isNotNull();
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("Entity -> Record 변환 테스트")
+    void testEntityToRecord() {
+        printHeader("Entity -> Record (정규 생성자)");
+
+        UserRecord record = ConvertType.from(new UserEntity("user1", "secret", "John Doe", 30)).to(UserRecord.class);
+        System.out.println("[Target]  " + record);
+
+        assertThat(record).isEqualTo(new UserRecord("user1", "John Doe", 30));
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("Record -> DTO 및 중첩 Record 변환 테스트")
+    void testNestedRecords() {
+        printHeader("Record <-> DTO (중첩 Record, List<Record>)");
+
+        OrderEntity entity = new OrderEntity();
+        entity.orderId = "O-1";
+        entity.items = Arrays.asList(new ItemEntity("mouse", 2), new ItemEntity("keyboard", 1));
+
+        OrderRecord record = ConvertType.from(entity).to(OrderRecord.class);
+        System.out.println("[Record]  " + record);
+        assertThat(record.orderId()).isEqualTo("O-1");
+        assertThat(record.items()).containsExactly(new ItemRecord("mouse", 2), new ItemRecord("keyboard", 1));
+
+        OrderEntity back = ConvertType.from(record).to(OrderEntity.class);
+        assertThat(back.orderId).isEqualTo("O-1");
+        assertThat(back.items).extracting(item -> item.name).containsExactly("mouse", "keyboard");
+
+        List<UserRecord> records = ConvertType.fromAll(Arrays.asList(
+                new UserEntity("a", "x", "A", 1), new UserEntity("b", "y", "B", 2))).to(UserRecord.class);
+        assertThat(records).extracting(UserRecord::username).containsExactly("a", "b");
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("Record 바이너리 직렬화 테스트")
+    void testRecordBinaryRoundTrip() {
+        printHeader("Record toBytes / fromBytes");
+
+        OrderRecord record = new OrderRecord("O-2", Collections.singletonList(new ItemRecord("pad", 3)));
+        byte[] bytes = ConvertType.from(record).toBytes();
+        OrderRecord decoded = ConvertType.fromBytes(bytes, OrderRecord.class);
+        System.out.println("[Decoded] " + decoded);
+
+        assertThat(decoded).isEqualTo(record);
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("JFR 이벤트 기록 테스트 (Recording + RecordingFile)")
+    void testFlightRecorderEvents() throws Exception {
+        printHeader("JFR Conversion / JacksonFallback 이벤트");
+
+        Path file = Files.createTempFile("convert-type", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("com.forestfull.convert_type.Conversion").withThreshold(Duration.ZERO);
+                recording.enable("com.forestfull.convert_type.JacksonFallback").withThreshold(Duration.ZERO);
+                recording.start();
+
+                ConvertType.from(new UserEntity("user1", "secret", "John Doe", 30)).to(UserRecord.class);
+                ConvertType.fromAll(Arrays.asList(new UserEntity("a", "x", "A", 1), new UserEntity("b", "y", "B", 2))).to(UserRecord.class);
+                FallbackSource source = new FallbackSource();
+                source.amounts = "7";
+                ConvertType.from(source).to(FallbackTarget.class);
+
+                recording.stop();
+                recording.dump(file);
+            }
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            List<String> operations = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.forestfull.convert_type.Conversion"))
+                    .map(event -> event.getString("operation") + ":" + event.getInt("elements"))
+                    .collect(Collectors.toList());
+            long fallbacks = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.forestfull.convert_type.JacksonFallback"))
+                    .count();
+            System.out.println("[Events]  " + operations + ", fallbacks=" + fallbacks);
+
+            assertThat(operations).contains("to:1", "fromAll.to:2");
+            assertThat(fallbacks).isPositive();
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        printFooter();
+    }
+
+    @Test
+    @DisplayName("JFR 이벤트 비활성 시 무할당 테스트")
+    void testDisabledEventsDoNotAllocate() {
+        printHeader("Telemetry begin* (비활성 시 이벤트 객체 미할당)");
+
+        assertThat(Telemetry.beginConversion()).isNull();
+        assertThat(Telemetry.beginInitialization()).isNull();
+        assertThat(Telemetry.beginFallback()).isNull();
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long threadId = Thread.currentThread().getId();
+        for (int i = 0; i < 10_000; i++) Telemetry.beginConversion();
+
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 100_000; i++) {
+            Telemetry.beginConversion();
+            Telemetry.beginInitialization();
+            Telemetry.beginFallback();
+        }
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+        System.out.println("[Allocation] " + allocated + " bytes for 300000 calls");
+
+        // 호출당 이벤트 객체(수십 바이트)를 할당하면 수 MB가 되므로, 측정 오차 수준만 허용
+        assertThat(allocated).isLessThan(64 * 1024);
+
+        printFooter();
+    }
+
+    // --- 테스트용 모델 클래스 ---
+
+    record UserRecord(String username, String fullName, int age) {}
+
+    record ItemRecord(String name, int quantity) {}
+
+    record OrderRecord(String orderId, List<ItemRecord> items) {}
+
+    static class UserEntity {
+        String username; String password; String fullName; int age;
+        public UserEntity() {}
+        public UserEntity(String u, String p, String f, int a) { this.username = u; this.password = p; this.fullName = f; this.age = a; }
+    }
+
+    static class ItemEntity {
+        String name; int quantity;
+        public ItemEntity() {}
+        public ItemEntity(String n, int q) { this.name = n; this.quantity = q; }
+    }
+
+    static class OrderEntity {
+        String orderId; List<ItemEntity> items;
+        public OrderEntity() {}
+    }
+
+    static class FallbackSource {
+        String amounts;
+    }
+
+    static class FallbackTarget {
+        List<Integer> amounts;
+    }
+}